@@ -0,0 +1,174 @@
+package metu.ceng.ceng453_20242_group3_frontend.app;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.StartupTimeline;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.controller.GameController;
+
+/**
+ * Training run for an AppCDS archive.
+ * Starts the application against a local stand-in for the backend and walks through the screens
+ * a user normally visits: it logs in, opens the main menu, starts a game, plays it for a few
+ * seconds and opens the leaderboard, then exits. Run with {@code -XX:ArchiveClassesAtExit}, the
+ * JVM then writes every class loaded on the way (JavaFX, Jackson, Gson, the controllers) into a
+ * shared archive, which normal launches map instead of loading and verifying those classes again.
+ * Use the "cds-training" Maven profile, which writes the archive the default run uses.
+ * The run does not register the password reset protocol handler, since that would point it at
+ * this class, and its startup report is printed instead of being added to the startup history.
+ */
+public class CdsTrainingRun extends UnoApplication {
+
+    // Time the script waits on each screen, so its animations and background loads run
+    private static final Duration SCREEN_TIME = Duration.seconds(1);
+    private static final Duration GAME_TIME = Duration.seconds(4);
+
+    // The run is abandoned if it has not finished by then
+    private static final Duration TIMEOUT = Duration.seconds(90);
+
+    private static StandInBackend backend;
+
+    @Override
+    public void start(Stage stage) throws IOException {
+        super.start(stage);
+
+        after(TIMEOUT, () -> finish("Training run timed out"));
+        after(SCREEN_TIME, this::login);
+    }
+
+    @Override
+    protected boolean registersProtocolHandler() {
+        return false;
+    }
+
+    private void login() {
+        System.out.println("CDS training: logging in");
+        new AuthService().login("training", "training",
+                user -> Platform.runLater(this::playGame),
+                error -> Platform.runLater(() -> finish("Login failed: " + error)));
+    }
+
+    private void playGame() {
+        try {
+            System.out.println("CDS training: starting a game");
+            ViewManager viewManager = ViewManager.getInstance();
+            viewManager.show(ViewManager.View.MAIN_MENU);
+            after(SCREEN_TIME, () -> {
+                try {
+                    viewManager.show(ViewManager.View.GAME_MODE);
+                    GameController controller = viewManager.show(ViewManager.View.GAME);
+                    controller.initializeGame("Normal", 3, 7);
+                    after(GAME_TIME, this::openLeaderboard);
+                } catch (Exception e) {
+                    finish("Could not start a game: " + e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            finish("Could not open the main menu: " + e.getMessage());
+        }
+    }
+
+    private void openLeaderboard() {
+        try {
+            System.out.println("CDS training: opening the leaderboard");
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
+            ViewManager.getInstance().show(ViewManager.View.LEADERBOARD);
+            after(SCREEN_TIME.multiply(2), () -> finish(null));
+        } catch (Exception e) {
+            finish("Could not open the leaderboard: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ends the run. The JVM writes the archive while it exits.
+     *
+     * @param error The reason the run failed, or null if it completed
+     */
+    private void finish(String error) {
+        if (error != null) {
+            System.err.println("CDS training failed: " + error);
+        } else {
+            System.out.println("CDS training completed, the class archive is written on exit");
+        }
+        backend.stop();
+        Platform.exit();
+        System.exit(error == null ? 0 : 1);
+    }
+
+    private static void after(Duration delay, Runnable action) {
+        PauseTransition pause = new PauseTransition(delay);
+        pause.setOnFinished(e -> action.run());
+        pause.play();
+    }
+
+    /**
+     * Starts a local backend that answers the calls made during the run with fixed data.
+     *
+     * @return The running stand-in
+     */
+    private static StandInBackend startBackend() throws IOException {
+        StandInBackend server = new StandInBackend();
+        server.route("/api/auth/login",
+                "{\"accessToken\":\"training-access-token-0000000000\","
+                + "\"refreshToken\":\"training-refresh-token-0000000000\","
+                + "\"userId\":1,\"email\":\"training@localhost\"}");
+        server.route("/api/leaderboard/",
+                "{\"data\":[{\"username\":\"training\",\"score\":120},"
+                + "{\"username\":\"player2\",\"score\":80},{\"username\":\"player3\",\"score\":40}]}");
+        server.route("/api/game/", "{\"data\":1}");
+        server.start();
+        return server;
+    }
+
+    /**
+     * Creates the directory the JVM writes the archive to, since it does not create it itself.
+     */
+    private static void prepareArchiveDirectory() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            String archive = hotSpot.getVMOption("ArchiveClassesAtExit").getValue();
+            if (archive.isEmpty()) {
+                System.err.println("WARNING: -XX:ArchiveClassesAtExit is not set, no archive will be written");
+                return;
+            }
+            Path parent = Paths.get(archive).toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            System.out.println("CDS training: writing the class archive to " + archive);
+        } catch (Exception e) {
+            System.err.println("Could not prepare the archive directory: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        StartupTimeline.getInstance().mark("main");
+        prepareArchiveDirectory();
+
+        // Point the application at the stand-in before the configuration is loaded
+        try {
+            backend = startBackend();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the stand-in backend", e);
+        }
+        System.setProperty("uno.apiBaseUrl", "http://127.0.0.1:" + backend.getPort() + "/api");
+        System.setProperty("uno.startupLabel", System.getProperty("uno.startupLabel", "training"));
+
+        // Keep the training launch out of the startup history of real launches
+        System.setProperty("uno.startupReport", System.getProperty("uno.startupReport", "-"));
+
+        launch(args);
+    }
+}
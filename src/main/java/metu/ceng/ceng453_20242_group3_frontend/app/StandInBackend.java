@@ -0,0 +1,141 @@
+package metu.ceng.ceng453_20242_group3_frontend.app;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Local stand-in for the backend, used by the {@link CdsTrainingRun} and the rendering benchmark
+ * so they never call the real server.
+ * Answers every request whose path starts with one of its routes with a fixed JSON body, and
+ * anything else with 404. It speaks just enough HTTP/1.1 for the application's client, one request
+ * per connection, and only needs {@code java.base}, so the application module does not depend on
+ * a server implementation for the sake of these tools.
+ */
+public class StandInBackend {
+
+    private final Map<String, String> routes = new LinkedHashMap<>();
+    private ServerSocket serverSocket;
+
+    /**
+     * Adds a fixed answer.
+     *
+     * @param pathPrefix The start of the paths it answers, e.g. "/api/game/"
+     * @param body The JSON body sent back
+     */
+    public void route(String pathPrefix, String body) {
+        routes.put(pathPrefix, body);
+    }
+
+    /**
+     * Starts accepting connections on a free loopback port.
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptConnections, "stand-in-backend");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the port the stand-in listens on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections.
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("Could not stop the stand-in backend: " + e.getMessage());
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread handler = new Thread(() -> handle(socket), "stand-in-backend-request");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // Closed by stop()
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            String requestLine = readLine(in);
+            if (requestLine == null) {
+                return;
+            }
+
+            // Skip the headers, then drain the body so the client sees the whole request consumed
+            int contentLength = 0;
+            String header;
+            while ((header = readLine(in)) != null && !header.isEmpty()) {
+                if (header.toLowerCase(Locale.ROOT).startsWith("content-length:")) {
+                    contentLength = Integer.parseInt(header.substring("content-length:".length()).trim());
+                }
+            }
+            in.readNBytes(contentLength);
+
+            String[] parts = requestLine.split(" ");
+            String path = parts.length > 1 ? parts[1] : "/";
+            String body = null;
+            for (Map.Entry<String, String> route : routes.entrySet()) {
+                if (path.startsWith(route.getKey())) {
+                    body = route.getValue();
+                    break;
+                }
+            }
+
+            byte[] bytes = (body != null ? body : "{}").getBytes(StandardCharsets.UTF_8);
+            String head = "HTTP/1.1 " + (body != null ? "200 OK" : "404 Not Found") + "\r\n"
+                    + "Content-Type: application/json\r\n"
+                    + "Content-Length: " + bytes.length + "\r\n"
+                    + "Connection: close\r\n\r\n";
+            OutputStream out = socket.getOutputStream();
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Stand-in backend could not answer a request: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one CRLF terminated line.
+     *
+     * @return The line without its terminator, or null at the end of the stream
+     */
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                String text = line.toString(StandardCharsets.US_ASCII);
+                return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+            }
+            line.write(b);
+        }
+        return line.size() > 0 ? line.toString(StandardCharsets.US_ASCII) : null;
+    }
+}
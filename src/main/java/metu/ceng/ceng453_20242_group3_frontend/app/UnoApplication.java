@@ -3,23 +3,20 @@ package metu.ceng.ceng453_20242_group3_frontend.app;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.List;
 
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
-import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.stage.Stage;
 import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.controller.ResetPasswordController;
-import metu.ceng.ceng453_20242_group3_frontend.features.game.util.GameModeIconGenerator;
-import metu.ceng.ceng453_20242_group3_frontend.features.game.util.IconGenerator;
-import metu.ceng.ceng453_20242_group3_frontend.features.common.util.LogoGenerator;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ImageCache;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ProtocolHandler;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.StartupTimeline;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Main application class for the UNO game.
@@ -33,37 +30,8 @@ public class UnoApplication extends Application {
     
     @Override
     public void init() {
-        // Generate the logo and icon on startup
-        try {
-            LogoGenerator.generateLogo();
-            IconGenerator.generateIcon();
-            
-            // Generate game mode icons
-            GameModeIconGenerator.generateIcons();
-        } catch (Exception e) {
-            System.err.println("Failed to generate logo or icons: " + e.getMessage());
-        }
-        
-        // Register the protocol handler for handling password reset links
-        try {
-            ProtocolHandler.registerProtocol();
-            
-            // Show special instructions for macOS users
-            String os = System.getProperty("os.name").toLowerCase();
-            if (os.contains("mac")) {
-                System.out.println("======== IMPORTANT NOTE FOR MACOS USERS ========");
-                System.out.println("To ensure password reset links work properly:");
-                System.out.println("1. When you receive a password reset email");
-                System.out.println("2. Copy the entire 'uno-reset://TOKEN' URL");
-                System.out.println("3. Start this application manually");
-                System.out.println("4. Go to your terminal and run:");
-                System.out.println("   open \"uno-reset://TOKEN\"");
-                System.out.println("   (replacing TOKEN with your actual token)");
-                System.out.println("=================================================");
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to register protocol handler: " + e.getMessage());
-        }
+        // The logo and icons are bundled under /images, so there is nothing to prepare here
+        StartupTimeline.getInstance().mark("init");
     }
     
     @Override
@@ -71,14 +39,18 @@ public class UnoApplication extends Application {
         this.primaryStage = stage;
         instance = this;
         
+        StartupTimeline timeline = StartupTimeline.getInstance();
+        timeline.mark("start");
+        StartupTimeline.Phase startPhase = timeline.begin("start");
+        
         // Set this system property to help with some macOS rendering issues
         System.setProperty("prism.order", "sw");
         
         // Set application icon
-        try {
-            URL iconUrl = getClass().getResource("/images/app_icon.png");
-            if (iconUrl != null) {
-                stage.getIcons().add(new Image(iconUrl.toExternalForm()));
+        try (StartupTimeline.Phase phase = timeline.begin("start.icon")) {
+            Image icon = ImageCache.getInstance().getLoaded("/images/app_icon.png");
+            if (icon != null) {
+                stage.getIcons().add(icon);
             } else {
                 System.err.println("Could not find application icon");
             }
@@ -94,6 +66,14 @@ public class UnoApplication extends Application {
         stage.setFullScreenExitKeyCombination(KeyCombination.valueOf("F11"));
         stage.setFullScreenExitHint("Press F11 to exit full screen mode");
         
+        // Every view is shown on one scene owned by the view manager
+        try (StartupTimeline.Phase phase = timeline.begin("start.sceneAndStylesheet")) {
+            ViewManager.getInstance().attach(stage);
+        }
+        
+        // Parse and show the first view
+        StartupTimeline.Phase firstViewPhase = timeline.begin("start.firstView");
+        
         // Get parameters to check if app was launched with a reset token
         Parameters params = getParameters();
         List<String> rawParams = params.getRaw();
@@ -124,6 +104,7 @@ public class UnoApplication extends Application {
             // Show the default login view
             showLoginView();
         }
+        firstViewPhase.close();
         
         // Add a graceful shutdown hook
         stage.setOnCloseRequest(e -> {
@@ -132,33 +113,73 @@ public class UnoApplication extends Application {
         });
         
         // Show the stage
-        stage.show();
+        trackFirstFrame(stage.getScene());
+        try (StartupTimeline.Phase phase = timeline.begin("start.stageShow")) {
+            stage.show();
+        }
+        startPhase.close();
     }
     
     /**
-     * Shows the login view.
+     * Records the first pulse, the time its CSS and layout passes take, the first laid out frame
+     * and the first point at which the application thread is free to handle input, then finishes
+     * the startup timeline.
+     * 
+     * @param scene The first scene shown
      */
-    private void showLoginView() throws IOException {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/login-view.fxml"));
-            Scene scene = new Scene(fxmlLoader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Apply CSS styling if available
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
+    private void trackFirstFrame(Scene scene) {
+        if (scene == null) {
+            return;
+        }
+        
+        StartupTimeline timeline = StartupTimeline.getInstance();
+        StartupTimeline.Phase[] firstPulse = new StartupTimeline.Phase[1];
+        Runnable[] listeners = new Runnable[2];
+        listeners[0] = () -> {
+            scene.removePreLayoutPulseListener(listeners[0]);
+            timeline.mark("firstPulse");
+            firstPulse[0] = timeline.begin("firstPulse.cssAndLayout");
+        };
+        listeners[1] = () -> {
+            scene.removePostLayoutPulseListener(listeners[1]);
+            if (firstPulse[0] != null) {
+                firstPulse[0].close();
             }
+            timeline.mark("firstFrame");
             
-            // Set up keyboard shortcuts for this scene
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    primaryStage.setFullScreen(!primaryStage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    primaryStage.setFullScreen(!primaryStage.isFullScreen());
+            // Runs once the frame has been handed to the renderer and queued work is done
+            Platform.runLater(() -> {
+                timeline.mark("firstInteractive");
+                timeline.finish();
+                
+                // Register the protocol handler for password reset links, off the startup path
+                if (registersProtocolHandler()) {
+                    StartupTimeline.Phase registration = timeline.begin("protocolRegistration");
+                    ProtocolHandler.registerProtocolAsync().thenRun(registration::close);
                 }
             });
-            
-            primaryStage.setScene(scene);
+        };
+        scene.addPreLayoutPulseListener(listeners[0]);
+        scene.addPostLayoutPulseListener(listeners[1]);
+    }
+    
+    /**
+     * Whether this launch registers the application as the handler for password reset links.
+     * The registration records the command that started this JVM, so launches with another main
+     * class must not overwrite it.
+     * 
+     * @return true to register the protocol handler once the first frame is shown
+     */
+    protected boolean registersProtocolHandler() {
+        return true;
+    }
+    
+    /**
+     * Shows the login view.
+     */
+    private void showLoginView() throws IOException {
+        try {
+            ViewManager.getInstance().show(ViewManager.View.LOGIN);
         } catch (Exception e) {
             System.err.println("Error loading login view: " + e.getMessage());
             e.printStackTrace();
@@ -173,29 +194,9 @@ public class UnoApplication extends Application {
      */
     private void showResetPasswordView(String token) throws IOException {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/reset-password-view.fxml"));
-            Scene scene = new Scene(fxmlLoader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
             // Set the token in the controller
-            ResetPasswordController controller = fxmlLoader.getController();
+            ResetPasswordController controller = ViewManager.getInstance().show(ViewManager.View.RESET_PASSWORD);
             controller.setResetToken(token);
-            
-            // Apply CSS styling if available
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts for this scene
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    primaryStage.setFullScreen(!primaryStage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    primaryStage.setFullScreen(!primaryStage.isFullScreen());
-                }
-            });
-            
-            primaryStage.setScene(scene);
         } catch (Exception e) {
             System.err.println("Error loading reset password view: " + e.getMessage());
             e.printStackTrace();
@@ -222,6 +223,9 @@ public class UnoApplication extends Application {
     }
     
     public static void main(String[] args) {
+        // Start the startup timeline before anything else
+        StartupTimeline.getInstance().mark("main");
+        
         // Set these properties before launching the app
         System.setProperty("glass.disableGrab", "true");
         System.setProperty("javafx.macosx.embedded", "true");
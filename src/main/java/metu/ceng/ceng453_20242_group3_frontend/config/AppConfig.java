@@ -6,7 +6,7 @@ package metu.ceng.ceng453_20242_group3_frontend.config;
  */
 public class AppConfig {
     // API endpoints
-    public static final String BASE_API_URL = "https://ceng-453-group-3.onrender.com/api";
+    public static final String BASE_API_URL = System.getProperty("uno.apiBaseUrl", "https://ceng-453-group-3.onrender.com/api");
     
     // Authentication endpoints
     public static final String LOGIN_ENDPOINT = BASE_API_URL + "/auth/login";
@@ -21,6 +21,16 @@ public class AppConfig {
     public static final String MONTHLY_LEADERBOARD_ENDPOINT = BASE_API_URL + "/leaderboard/monthly";
     public static final String ALL_TIME_LEADERBOARD_ENDPOINT = BASE_API_URL + "/leaderboard/all-time";
     
+    // HTTP client constants
+    public static final int HTTP_CONNECT_TIMEOUT_SECONDS = 10;
+    public static final int HTTP_REQUEST_TIMEOUT_SECONDS = 30; // The backend can take a while to wake up
+    public static final int HTTP_THREADS = 4; // Threads completing requests for the shared HTTP client
+    public static final int HTTP_RETRY_MAX_ATTEMPTS = 3;
+    public static final long HTTP_RETRY_BASE_DELAY_MS = 1000;
+    public static final long HTTP_RETRY_MAX_DELAY_MS = 15000;
+    public static final int CIRCUIT_FAILURE_THRESHOLD = 5; // Failures in a row before requests fail fast
+    public static final int CIRCUIT_OPEN_SECONDS = 30; // Time before a probe request is let through
+    
     // Game constants
     public static final int INITIAL_CARDS_PER_PLAYER = 7;
     public static final int DEFAULT_NUMBER_OF_PLAYERS = 4;
@@ -38,6 +48,22 @@ public class AppConfig {
     public static final int WINDOW_WIDTH = 1024;
     public static final int WINDOW_HEIGHT = 768;
     public static final String GAME_TITLE = "UNO Game";
+    public static final int VIEW_CACHE_SIZE = 4; // Parsed views kept for reuse by the view manager
+    
+    // Performance overlay constants
+    public static final double PERF_HITCH_THRESHOLD_MS = 50.0;
+    public static final String FRAME_TRACE_DIRECTORY = System.getProperty("user.home") + "/.uno/traces";
+    public static final String STARTUP_REPORT_DIRECTORY = System.getProperty("user.home") + "/.uno/startup";
+    public static final int STARTUP_REPORTS_KEPT = 20; // Older JSON reports are deleted, the CSV history is kept
+    
+    // Local storage constants
+    public static final String PROTOCOL_REGISTRATION_FILE = System.getProperty("user.home") + "/.uno/protocol-registration";
+    public static final String HTTP_CACHE_DIRECTORY = System.getProperty("user.home") + "/.uno/http-cache";
+    public static final long HTTP_CACHE_MAX_BYTES = 5 * 1024 * 1024; // Least recently used responses are evicted above this
+    
+    // Animation constants
+    public static final int ANIMATION_IDLE_TIMEOUT_SECONDS = 60; // Decorative loops pause after this long without input
+    public static final double QUALITY_FRAME_BUDGET_MS = 1000.0 / 60; // Target frame time for the quality governor
     
     // Backward compatibility aliases
     public static final String RESET_PASSWORD_ENDPOINT = FORGOT_PASSWORD_ENDPOINT;
@@ -1,26 +1,20 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.auth.controller;
 
 import java.io.IOException;
-import java.net.URL;
 import java.util.regex.Pattern;
 
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
-import javafx.stage.Stage;
 import javafx.util.Duration;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
-import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the forgot password view.
@@ -143,41 +137,19 @@ public class ForgotPasswordController {
      * Navigate to the reset password form.
      */
     private void showResetPasswordForm() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/reset-password-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
+        // Create fade-out transition
+        FadeTransition fadeOut = new FadeTransition(Duration.millis(300), forgotPasswordPane);
+        fadeOut.setFromValue(1.0);
+        fadeOut.setToValue(0.0);
+        fadeOut.setOnFinished(e -> {
+            try {
+                ViewManager.getInstance().show(ViewManager.View.RESET_PASSWORD);
+            } catch (IOException ex) {
+                showAlert(Alert.AlertType.ERROR, "Navigation Error", 
+                          "Could not navigate to reset password form: " + ex.getMessage());
             }
-            
-            Stage stage = (Stage) forgotPasswordPane.getScene().getWindow();
-            
-            // Create fade-out transition
-            FadeTransition fadeOut = new FadeTransition(Duration.millis(300), forgotPasswordPane);
-            fadeOut.setFromValue(1.0);
-            fadeOut.setToValue(0.0);
-            fadeOut.setOnFinished(e -> {
-                // Add keyboard shortcuts for full screen mode
-                scene.setOnKeyPressed(ke -> {
-                    if (ke.getCode() == KeyCode.F11) {
-                        stage.setFullScreen(!stage.isFullScreen());
-                    } else if (ke.getCode() == KeyCode.ENTER && ke.isAltDown()) {
-                        stage.setFullScreen(!stage.isFullScreen());
-                    }
-                });
-                
-                stage.setScene(scene);
-            });
-            fadeOut.play();
-            
-        } catch (IOException e) {
-            showAlert(Alert.AlertType.ERROR, "Navigation Error", 
-                      "Could not navigate to reset password form: " + e.getMessage());
-        }
+        });
+        fadeOut.play();
     }
     
     /**
@@ -185,21 +157,7 @@ public class ForgotPasswordController {
      */
     private void navigateToLogin() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/login-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts for full screen
-            setupKeyboardShortcuts(scene);
-            
-            // Set the scene on the stage
-            Stage stage = (Stage) forgotPasswordPane.getScene().getWindow();
-            stage.setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.LOGIN);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not navigate to login page: " + e.getMessage());
@@ -220,20 +178,4 @@ public class ForgotPasswordController {
         alert.setContentText(message);
         alert.showAndWait();
     }
-    
-    /**
-     * Sets up keyboard shortcuts for full screen mode on the given scene.
-     * 
-     * @param scene The scene to set up shortcuts for
-     */
-    private void setupKeyboardShortcuts(Scene scene) {
-        Stage stage = (Stage) forgotPasswordPane.getScene().getWindow();
-        scene.setOnKeyPressed(ke -> {
-            if (ke.getCode() == KeyCode.F11) {
-                stage.setFullScreen(!stage.isFullScreen());
-            } else if (ke.getCode() == KeyCode.ENTER && ke.isAltDown()) {
-                stage.setFullScreen(!stage.isFullScreen());
-            }
-        });
-    }
 } 
\ No newline at end of file
@@ -1,14 +1,9 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.auth.controller;
 
 import java.io.IOException;
-import java.net.URL;
 
-import javafx.animation.FadeTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
@@ -16,19 +11,13 @@ import javafx.scene.control.TextField;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
-import javafx.stage.Stage;
-import javafx.util.Duration;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
-import javafx.scene.input.KeyCode;
-import javafx.stage.Stage;
-import metu.ceng.ceng453_20242_group3_frontend.app.UnoApplication;
-import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
-import metu.ceng.ceng453_20242_group3_frontend.features.game.controller.MainMenuController;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the login view.
  */
-public class LoginController {
+public class LoginController implements ViewManager.ShowListener {
     
     @FXML
     private ImageView logoImageView;
@@ -68,6 +57,14 @@ public class LoginController {
         forgotPasswordButton.setOnContextMenuRequested(event -> showEnterResetTokenDialog());
     }
     
+    /**
+     * Parses the main menu in the background while the user types their credentials.
+     */
+    @Override
+    public void onViewShown() {
+        ViewManager.getInstance().preload(ViewManager.View.MAIN_MENU);
+    }
+    
     /**
      * Shows a dialog to enter a reset token directly.
      */
@@ -94,22 +91,9 @@ public class LoginController {
      */
     private void navigateToResetPassword(String token) throws IOException {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/reset-password-view.fxml"));
-            Parent root = loader.load();
-            
             // Set the token in the controller
-            ResetPasswordController controller = loader.getController();
+            ResetPasswordController controller = ViewManager.getInstance().show(ViewManager.View.RESET_PASSWORD);
             controller.setResetToken(token);
-            
-            Scene scene = new Scene(root);
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            Stage stage = (Stage) loginPane.getScene().getWindow();
-            stage.setScene(scene);
         } catch (IOException e) {
             System.err.println("Error navigating to reset password view: " + e.getMessage());
             e.printStackTrace();
@@ -166,30 +150,7 @@ public class LoginController {
      */
     private void navigateToRegister() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/register-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add the fade transition class
-            root.getStyleClass().add("fade-transition");
-            
-            Stage stage = (Stage) loginPane.getScene().getWindow();
-            stage.setScene(scene);
-            
-            // Animate the fade in
-            Platform.runLater(() -> {
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), root);
-                fadeIn.setFromValue(0.0);
-                fadeIn.setToValue(1.0);
-                fadeIn.play();
-            });
-            
+            ViewManager.getInstance().show(ViewManager.View.REGISTER);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not navigate to registration page: " + e.getMessage());
@@ -201,30 +162,7 @@ public class LoginController {
      */
     private void navigateToForgotPassword() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/forgot-password-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add the fade transition class
-            root.getStyleClass().add("fade-transition");
-            
-            Stage stage = (Stage) loginPane.getScene().getWindow();
-            stage.setScene(scene);
-            
-            // Animate the fade in
-            Platform.runLater(() -> {
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), root);
-                fadeIn.setFromValue(0.0);
-                fadeIn.setToValue(1.0);
-                fadeIn.play();
-            });
-            
+            ViewManager.getInstance().show(ViewManager.View.FORGOT_PASSWORD);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not navigate to forgot password page: " + e.getMessage());
@@ -237,46 +175,8 @@ public class LoginController {
     private void navigateToMainMenu() throws IOException {
         try {
             System.out.println("Attempting to navigate to main menu...");
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/main-menu-view.fxml"));
-            
-            // Load the FXML first
-            Parent root = loader.load();
-            System.out.println("Main menu FXML loaded successfully");
-            
-            // Get the controller (optional, for passing data)
-            MainMenuController controller = loader.getController();
-            System.out.println("Main menu controller obtained");
-            
-            // Create the new scene
-            Scene scene = new Scene(root);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-                System.out.println("CSS styling applied successfully");
-            } else {
-                System.out.println("WARNING: CSS styling not found");
-            }
-            
-            // Add the fade transition class
-            root.getStyleClass().add("fade-transition");
-            
-            // Get the current stage from any element in the current scene
-            Stage stage = (Stage) loginPane.getScene().getWindow();
-            
-            // Set the new scene
-            stage.setScene(scene);
-            System.out.println("Main menu scene set successfully");
-            
-            // Animate the fade in
-            Platform.runLater(() -> {
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), root);
-                fadeIn.setFromValue(0.0);
-                fadeIn.setToValue(1.0);
-                fadeIn.play();
-            });
-            
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
+            System.out.println("Main menu shown successfully");
         } catch (Exception e) {
             System.err.println("Error navigating to main menu: " + e.getMessage());
             e.printStackTrace();
@@ -302,28 +202,7 @@ public class LoginController {
     @FXML
     private void onRegisterLinkClicked() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/register-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Add CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    UnoApplication.getInstance().getPrimaryStage().setFullScreen(
-                        !UnoApplication.getInstance().getPrimaryStage().isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    UnoApplication.getInstance().getPrimaryStage().setFullScreen(
-                        !UnoApplication.getInstance().getPrimaryStage().isFullScreen());
-                }
-            });
-            
-            // Set the scene
-            UnoApplication.getInstance().getPrimaryStage().setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.REGISTER);
         } catch (Exception e) {
             System.err.println("Error loading register view: " + e.getMessage());
             e.printStackTrace();
@@ -334,28 +213,7 @@ public class LoginController {
     @FXML
     private void onForgotPasswordClicked() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/forgot-password-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Add CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    UnoApplication.getInstance().getPrimaryStage().setFullScreen(
-                        !UnoApplication.getInstance().getPrimaryStage().isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    UnoApplication.getInstance().getPrimaryStage().setFullScreen(
-                        !UnoApplication.getInstance().getPrimaryStage().isFullScreen());
-                }
-            });
-            
-            // Set the scene
-            UnoApplication.getInstance().getPrimaryStage().setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.FORGOT_PASSWORD);
         } catch (Exception e) {
             System.err.println("Error loading forgot password view: " + e.getMessage());
             e.printStackTrace();
@@ -1,25 +1,18 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.auth.controller;
 
 import java.io.IOException;
-import java.net.URL;
 import java.util.regex.Pattern;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
-import javafx.stage.Stage;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
-import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
-import metu.ceng.ceng453_20242_group3_frontend.features.game.controller.MainMenuController;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the registration view.
@@ -187,43 +180,8 @@ public class RegisterController {
     private void navigateToMainMenu() throws IOException {
         try {
             System.out.println("Attempting to navigate to main menu after registration...");
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/main-menu-view.fxml"));
-            
-            // Load the FXML first
-            Parent root = loader.load();
-            System.out.println("Main menu FXML loaded successfully");
-            
-            // Get the controller (optional, for passing data)
-            MainMenuController controller = loader.getController();
-            System.out.println("Main menu controller obtained");
-            
-            // Create the new scene
-            Scene scene = new Scene(root);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-                System.out.println("CSS styling applied successfully");
-            } else {
-                System.out.println("WARNING: CSS styling not found");
-            }
-            
-            // Get the current stage from any element in the current scene
-            Stage stage = (Stage) registerPane.getScene().getWindow();
-            
-            // Add keyboard shortcuts for full screen mode
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                }
-            });
-            
-            // Set and show the new scene
-            stage.setScene(scene);
-            System.out.println("Main menu scene set successfully");
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
+            System.out.println("Main menu shown successfully");
         } catch (Exception e) {
             System.err.println("Error navigating to main menu: " + e.getMessage());
             e.printStackTrace();
@@ -236,21 +194,7 @@ public class RegisterController {
      */
     private void navigateToLogin() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/login-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts for full screen mode
-            setupFullScreenShortcuts(scene);
-            
-            // Set the scene on the stage
-            Stage stage = (Stage) registerPane.getScene().getWindow();
-            stage.setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.LOGIN);
         } catch (IOException e) {
             showErrorAlert("Navigation Error", "Could not navigate to login page: " + e.getMessage());
         }
@@ -271,22 +215,6 @@ public class RegisterController {
         alert.showAndWait();
     }
     
-    /**
-     * Sets up keyboard shortcuts for full screen mode on the given scene.
-     * 
-     * @param scene The scene to set up shortcuts for
-     */
-    private void setupFullScreenShortcuts(Scene scene) {
-        Stage stage = (Stage) registerPane.getScene().getWindow();
-        scene.setOnKeyPressed(ke -> {
-            if (ke.getCode() == KeyCode.F11) {
-                stage.setFullScreen(!stage.isFullScreen());
-            } else if (ke.getCode() == KeyCode.ENTER && ke.isAltDown()) {
-                stage.setFullScreen(!stage.isFullScreen());
-            }
-        });
-    }
-    
     private void showErrorAlert(String title, String message) {
         showAlert(Alert.AlertType.ERROR, title, message);
     }
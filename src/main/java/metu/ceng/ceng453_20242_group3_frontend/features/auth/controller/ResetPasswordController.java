@@ -1,26 +1,20 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.auth.controller;
 
 import java.io.IOException;
-import java.net.URL;
 
 import javafx.animation.FadeTransition;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
-import javafx.stage.Stage;
 import javafx.util.Duration;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
-import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
-import metu.ceng.ceng453_20242_group3_frontend.app.UnoApplication;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the reset password view that appears after clicking the reset link.
@@ -138,25 +132,29 @@ public class ResetPasswordController {
         authService.completePasswordReset(resetToken, newPassword,
             () -> {
                 // On successful password reset
-                progressIndicator.setVisible(false);
-                
-                showAlert(Alert.AlertType.INFORMATION, "Password Reset Successful", 
-                          "Your password has been successfully reset. Please log in with your new password.");
-                
-                try {
-                    navigateToLogin();
-                } catch (Exception e) {
-                    showAlert(Alert.AlertType.ERROR, "Navigation Error", 
-                              "Could not navigate to login page: " + e.getMessage());
-                }
-                
-                submitButton.setDisable(false);
+                Platform.runLater(() -> {
+                    progressIndicator.setVisible(false);
+                    
+                    showAlert(Alert.AlertType.INFORMATION, "Password Reset Successful", 
+                              "Your password has been successfully reset. Please log in with your new password.");
+                    
+                    try {
+                        navigateToLogin();
+                    } catch (Exception e) {
+                        showAlert(Alert.AlertType.ERROR, "Navigation Error", 
+                                  "Could not navigate to login page: " + e.getMessage());
+                    }
+                    
+                    submitButton.setDisable(false);
+                });
             },
             errorMessage -> {
                 // On password reset failure
-                progressIndicator.setVisible(false);
-                showAlert(Alert.AlertType.ERROR, "Password Reset Failed", errorMessage);
-                submitButton.setDisable(false);
+                Platform.runLater(() -> {
+                    progressIndicator.setVisible(false);
+                    showAlert(Alert.AlertType.ERROR, "Password Reset Failed", errorMessage);
+                    submitButton.setDisable(false);
+                });
             }
         );
     }
@@ -166,20 +164,7 @@ public class ResetPasswordController {
      */
     private void navigateToLogin() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/login-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up keyboard shortcuts
-            setupFullScreenShortcuts(scene);
-            
-            // Set the scene
-            UnoApplication.getInstance().getPrimaryStage().setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.LOGIN);
         } catch (Exception e) {
             e.printStackTrace();
             showErrorAlert("Navigation Error", "Failed to navigate to the login screen. Please restart the application.");
@@ -201,22 +186,6 @@ public class ResetPasswordController {
         alert.showAndWait();
     }
     
-    /**
-     * Sets up full screen shortcuts for the given scene.
-     * 
-     * @param scene The scene to set up full screen shortcuts for
-     */
-    private void setupFullScreenShortcuts(Scene scene) {
-        Stage stage = (Stage) resetPasswordPane.getScene().getWindow();
-        scene.setOnKeyPressed(ke -> {
-            if (ke.getCode() == KeyCode.F11) {
-                stage.setFullScreen(!stage.isFullScreen());
-            } else if (ke.getCode() == KeyCode.ENTER && ke.isAltDown()) {
-                stage.setFullScreen(!stage.isFullScreen());
-            }
-        });
-    }
-    
     /**
      * Shows an error alert dialog.
      * 
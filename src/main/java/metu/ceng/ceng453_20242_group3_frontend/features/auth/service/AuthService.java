@@ -1,12 +1,9 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.auth.service;
 
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.util.Scanner;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import com.google.gson.JsonObject;
@@ -14,6 +11,8 @@ import com.google.gson.JsonParser;
 
 import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.model.User;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.HttpClientManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.RetryPolicy;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManager;
 
 /**
@@ -21,6 +20,8 @@ import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManag
  */
 public class AuthService {
     
+    private final HttpClientManager httpClientManager = HttpClientManager.getInstance();
+    
     /**
      * Attempts to log in a user with the provided credentials.
      * 
@@ -30,29 +31,16 @@ public class AuthService {
      * @param onError Callback for login failure
      */
     public void login(String username, String password, Consumer<User> onSuccess, Consumer<String> onError) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
-                URL url = new URL(AppConfig.LOGIN_ENDPOINT);
-                
-                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                connection.setRequestMethod("POST");
-                connection.setRequestProperty("Content-Type", "application/json");
-                connection.setDoOutput(true);
-                
-                try (OutputStream os = connection.getOutputStream()) {
-                    byte[] input = jsonBody.getBytes(StandardCharsets.UTF_8);
-                    os.write(input, 0, input.length);
-                }
-                
-                int responseCode = connection.getResponseCode();
-                
-                if (responseCode == 200) {
-                    // Parse the response and create a User object
-                    String responseBody = readResponse(connection);
-                    
+        String jsonBody = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        HttpRequest request = httpClientManager.newRequest(AppConfig.LOGIN_ENDPOINT)
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+        
+        send(request, "login", onError, response -> {
+            if (response.statusCode() == 200) {
+                try {
                     // Parse the JSON response
-                    JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
+                    JsonObject jsonResponse = JsonParser.parseString(response.body()).getAsJsonObject();
                     
                     // Extract tokens
                     String accessToken = jsonResponse.get("accessToken").getAsString();
@@ -84,17 +72,12 @@ public class AuthService {
                     
                     // Call the success callback
                     onSuccess.accept(user);
-                } else {
-                    // Call the error callback
-                    String errorResponse = readErrorResponse(connection);
-                    onError.accept("Login failed: " + errorResponse);
+                } catch (Exception e) {
+                    onError.accept("Error processing login response: " + e.getMessage());
                 }
-                
-                connection.disconnect();
-            } catch (IOException e) {
-                onError.accept("Network error: " + e.getMessage());
-            } catch (Exception e) {
-                onError.accept("Error processing login response: " + e.getMessage());
+            } else {
+                // Call the error callback
+                onError.accept("Login failed: " + readErrorResponse(response));
             }
         });
     }
@@ -110,67 +93,53 @@ public class AuthService {
      */
     public void register(String username, String email, String password, 
                          Runnable onSuccess, Consumer<String> onError) {
-        try {
-            System.out.println("Sending registration request for username: " + username);
-            
-            String jsonBody = String.format("{\"username\":\"%s\",\"email\":\"%s\",\"password\":\"%s\"}", 
-                                           username, email, password);
-            URL url = new URL(AppConfig.REGISTER_ENDPOINT);
-            
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setDoOutput(true);
-            
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = jsonBody.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-            
-            int responseCode = connection.getResponseCode();
+        System.out.println("Sending registration request for username: " + username);
+        
+        String jsonBody = String.format("{\"username\":\"%s\",\"email\":\"%s\",\"password\":\"%s\"}", 
+                                       username, email, password);
+        HttpRequest request = httpClientManager.newRequest(AppConfig.REGISTER_ENDPOINT)
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+        
+        send(request, "registration", onError, response -> {
+            int responseCode = response.statusCode();
             System.out.println("Registration response code: " + responseCode);
             
             // Accept both 200 and 201 as successful registration
             if (responseCode == 200 || responseCode == 201) {
                 System.out.println("Registration successful with status code: " + responseCode);
                 
+                String responseBody = response.body();
+                System.out.println("Registration response: " + responseBody);
+                
+                // Try to extract tokens from the response
                 try {
-                    // Try to read the response body to get tokens
-                    String responseBody = readResponse(connection);
-                    System.out.println("Registration response: " + responseBody);
-                    
-                    // Try to extract tokens from the response
-                    try {
-                        JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
-                        if (jsonResponse.has("body") && jsonResponse.getAsJsonObject("body").has("data")) {
-                            JsonObject data = jsonResponse.getAsJsonObject("body").getAsJsonObject("data");
+                    JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
+                    if (jsonResponse.has("body") && jsonResponse.getAsJsonObject("body").has("data")) {
+                        JsonObject data = jsonResponse.getAsJsonObject("body").getAsJsonObject("data");
+                        
+                        if (data.has("accessToken") && data.has("refreshToken")) {
+                            // Create user object and start session
+                            String accessToken = data.get("accessToken").getAsString();
+                            String refreshToken = data.get("refreshToken").getAsString();
+                            
+                            User user = new User();
+                            user.setUsername(username);
+                            user.setEmail(email);
+                            
+                            // Start session directly without a separate login call
+                            SessionManager.getInstance().startSession(user, accessToken, refreshToken);
                             
-                            if (data.has("accessToken") && data.has("refreshToken")) {
-                                // Create user object and start session
-                                String accessToken = data.get("accessToken").getAsString();
-                                String refreshToken = data.get("refreshToken").getAsString();
-                                
-                                User user = new User();
-                                user.setUsername(username);
-                                user.setEmail(email);
-                                
-                                // Start session directly without a separate login call
-                                SessionManager.getInstance().startSession(user, accessToken, refreshToken);
-                                
-                                System.out.println("===== Auto-login successful after registration =====");
-                                System.out.println("Username: " + username);
-                                System.out.println("Access Token: " + accessToken);
-                                System.out.println("Refresh Token: " + refreshToken);
-                                System.out.println("================================================");
-                            }
+                            System.out.println("===== Auto-login successful after registration =====");
+                            System.out.println("Username: " + username);
+                            System.out.println("Access Token: " + accessToken);
+                            System.out.println("Refresh Token: " + refreshToken);
+                            System.out.println("================================================");
                         }
-                    } catch (Exception e) {
-                        System.err.println("Could not parse tokens from registration response: " + e.getMessage());
-                        // Continue anyway, we'll just use the regular login method in RegisterController
                     }
                 } catch (Exception e) {
-                    System.err.println("Error reading registration response: " + e.getMessage());
-                    // Continue anyway, since registration was successful
+                    System.err.println("Could not parse tokens from registration response: " + e.getMessage());
+                    // Continue anyway, we'll just use the regular login method in RegisterController
                 }
                 
                 // Notify caller of success
@@ -179,27 +148,11 @@ public class AuthService {
                 // Handle conflict (e.g., username already exists)
                 onError.accept("Username or email already exists. Please choose a different one.");
             } else {
-                // Try to read error response safely
-                try {
-                    String errorResponse = readErrorResponse(connection);
-                    System.err.println("Registration error response: " + errorResponse);
-                    onError.accept("Registration failed: " + errorResponse);
-                } catch (Exception e) {
-                    System.err.println("Error reading registration error response: " + e.getMessage());
-                    onError.accept("Registration failed with status code: " + responseCode);
-                }
+                String errorResponse = readErrorResponse(response);
+                System.err.println("Registration error response: " + errorResponse);
+                onError.accept("Registration failed: " + errorResponse);
             }
-            
-            connection.disconnect();
-        } catch (IOException e) {
-            System.err.println("Network error in registration: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Network error: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Unexpected error in registration: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Unexpected error: " + e.getMessage());
-        }
+        });
     }
     
     /**
@@ -224,20 +177,20 @@ public class AuthService {
      * @param onError Callback for password reset request failure
      */
     public void resetPassword(String email, Runnable onSuccess, Consumer<String> onError) {
-        try {
-            System.out.println("Sending password reset request for email: " + email);
-            
-            // Prepare the request with email as query parameter
-            String encodedEmail = java.net.URLEncoder.encode(email, StandardCharsets.UTF_8.name());
-            URL url = new URL(AppConfig.FORGOT_PASSWORD_ENDPOINT + "?email=" + encodedEmail);
-            System.out.println("Request URL: " + url);
-            
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            // No need to set DoOutput to true since we're not sending a request body
-            
-            int responseCode = connection.getResponseCode();
+        System.out.println("Sending password reset request for email: " + email);
+        
+        // Prepare the request with email as query parameter
+        String encodedEmail = URLEncoder.encode(email, StandardCharsets.UTF_8);
+        String url = AppConfig.FORGOT_PASSWORD_ENDPOINT + "?email=" + encodedEmail;
+        System.out.println("Request URL: " + url);
+        
+        // No request body, the email is in the query string
+        HttpRequest request = httpClientManager.newRequest(url)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        
+        send(request, "password reset", onError, response -> {
+            int responseCode = response.statusCode();
             System.out.println("Password reset response code: " + responseCode);
             
             // Check the response
@@ -252,21 +205,11 @@ public class AuthService {
                 onError.accept("If an account exists with this email, a password reset link has been sent.");
             } else {
                 // Handle other errors
-                String errorResponse = readErrorResponse(connection);
+                String errorResponse = readErrorResponse(response);
                 System.err.println("Error response: " + errorResponse);
                 onError.accept("Password reset request failed: " + errorResponse);
             }
-            
-            connection.disconnect();
-        } catch (IOException e) {
-            System.err.println("Network error in password reset: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Network error: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Unexpected error in password reset: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Unexpected error: " + e.getMessage());
-        }
+        });
     }
     
     /**
@@ -278,21 +221,21 @@ public class AuthService {
      * @param onError Callback for password reset failure
      */
     public void completePasswordReset(String token, String newPassword, Runnable onSuccess, Consumer<String> onError) {
-        try {
-            System.out.println("Sending password reset completion request with token");
-            
-            // Prepare the request with parameters in the query string
-            String encodedToken = java.net.URLEncoder.encode(token, StandardCharsets.UTF_8.name());
-            String encodedPassword = java.net.URLEncoder.encode(newPassword, StandardCharsets.UTF_8.name());
-            URL url = new URL(AppConfig.SET_NEW_PASSWORD_ENDPOINT + "?token=" + encodedToken + "&newPassword=" + encodedPassword + "&confirmPassword=" + encodedPassword);
-            System.out.println("Request URL: " + url);
-            
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            // No need to set DoOutput to true since we're not sending a request body
-            
-            int responseCode = connection.getResponseCode();
+        System.out.println("Sending password reset completion request with token");
+        
+        // Prepare the request with parameters in the query string
+        String encodedToken = URLEncoder.encode(token, StandardCharsets.UTF_8);
+        String encodedPassword = URLEncoder.encode(newPassword, StandardCharsets.UTF_8);
+        String url = AppConfig.SET_NEW_PASSWORD_ENDPOINT + "?token=" + encodedToken + "&newPassword=" + encodedPassword + "&confirmPassword=" + encodedPassword;
+        System.out.println("Request URL: " + url);
+        
+        // No request body, the parameters are in the query string
+        HttpRequest request = httpClientManager.newRequest(url)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        
+        send(request, "password reset completion", onError, response -> {
+            int responseCode = response.statusCode();
             System.out.println("Complete password reset response code: " + responseCode);
             
             if (responseCode == 200) {
@@ -300,63 +243,58 @@ public class AuthService {
                 onSuccess.run();
             } else if (responseCode == 400) {
                 // Bad request
-                String errorResponse = readErrorResponse(connection);
-                onError.accept("Invalid token or password: " + errorResponse);
+                onError.accept("Invalid token or password: " + readErrorResponse(response));
             } else if (responseCode == 404) {
                 // Token not found
                 onError.accept("Reset token not found or expired. Please request a new password reset.");
             } else {
-                String errorResponse = readErrorResponse(connection);
+                String errorResponse = readErrorResponse(response);
                 System.err.println("Error response: " + errorResponse);
                 onError.accept("Password reset failed: " + errorResponse);
             }
-            
-            connection.disconnect();
-        } catch (IOException e) {
-            System.err.println("Network error in password reset completion: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Network error: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Unexpected error in password reset completion: " + e.getMessage());
-            e.printStackTrace();
-            onError.accept("Unexpected error: " + e.getMessage());
-        }
+        });
     }
     
     /**
-     * Reads the response body from a successful HTTP connection.
+     * Sends a request on the shared HTTP client without blocking the caller. None of the auth calls
+     * may run twice, so they are only retried when they never reached the backend. The response
+     * handler runs on one of the client's threads, so callers must move UI work to the JavaFX thread.
      * 
-     * @param connection The HTTP connection
-     * @return The response body as a string
-     * @throws IOException If an I/O error occurs
+     * @param request The request to send
+     * @param operation The operation name, for error messages
+     * @param onError Callback for network errors and unexpected failures
+     * @param onResponse Callback for a received response, whatever its status code
      */
-    private String readResponse(HttpURLConnection connection) throws IOException {
-        try (Scanner scanner = new Scanner(connection.getInputStream(), StandardCharsets.UTF_8.name())) {
-            scanner.useDelimiter("\\A");
-            return scanner.hasNext() ? scanner.next() : "";
-        }
+    private void send(HttpRequest request, String operation, Consumer<String> onError,
+                      Consumer<HttpResponse<String>> onResponse) {
+        httpClientManager.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8), RetryPolicy.UNSENT_ONLY)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        System.err.println("Network error in " + operation + ": " + HttpClientManager.describe(error));
+                        onError.accept("Network error: " + HttpClientManager.describe(error));
+                        return;
+                    }
+                    try {
+                        onResponse.accept(response);
+                    } catch (Exception e) {
+                        System.err.println("Unexpected error in " + operation + ": " + e.getMessage());
+                        e.printStackTrace();
+                        onError.accept("Unexpected error: " + e.getMessage());
+                    }
+                });
     }
     
     /**
-     * Reads the error response body from a failed HTTP connection.
+     * Reads the error response body from a failed request.
      * 
-     * @param connection The HTTP connection
-     * @return The error response body as a string
-     * @throws IOException If an I/O error occurs
+     * @param response The HTTP response
+     * @return The error response body, or a status description if the body is empty
      */
-    private String readErrorResponse(HttpURLConnection connection) throws IOException {
-        // Check if error stream is null
-        if (connection.getErrorStream() == null) {
-            // Try to get response code and message
-            int responseCode = connection.getResponseCode();
-            String responseMessage = connection.getResponseMessage();
-            return String.format("{\"status\":{\"code\":\"%d\",\"description\":\"%s\"}}", 
-                                responseCode, responseMessage);
-        }
-        
-        try (Scanner scanner = new Scanner(connection.getErrorStream(), StandardCharsets.UTF_8.name())) {
-            scanner.useDelimiter("\\A");
-            return scanner.hasNext() ? scanner.next() : "";
+    private String readErrorResponse(HttpResponse<String> response) {
+        String body = response.body();
+        if (body == null || body.isBlank()) {
+            return String.format("{\"status\":{\"code\":\"%d\"}}", response.statusCode());
         }
+        return body;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.model;
+
+/**
+ * Model class for the envelope the backend wraps its responses in:
+ * {"status":{"code":"OK","description":"Success"},"data":...}
+ *
+ * @param <T> The type of the data
+ */
+public class ApiResponse<T> {
+    private Status status;
+    private T data;
+
+    /**
+     * Model class for the status part of a response.
+     */
+    public static class Status {
+        private String code;
+        private String description;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+
+    // Default constructor
+    public ApiResponse() {
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the data, failing if the response did not contain any.
+     *
+     * @return The data
+     * @throws IllegalStateException If the response has no data
+     */
+    public T requireData() {
+        if (data == null) {
+            throw new IllegalStateException("Response does not contain 'data' field");
+        }
+        return data;
+    }
+}
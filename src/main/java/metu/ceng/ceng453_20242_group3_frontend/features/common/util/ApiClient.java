@@ -1,158 +1,404 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.UncheckedIOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
 
 /**
  * Client for making API calls to the backend.
+ * Every call returns a future that completes with the decoded response. Responses are received
+ * in full and then decoded from memory with a reader prepared once per response type, so no
+ * client thread blocks on a slow body, and a status code outside the 2xx range fails the future
+ * with an {@link ApiException} without decoding anything.
+ * Failed calls are retried with the policy registered for their endpoint. Without one, reads and
+ * other idempotent methods are retried after any network or gateway failure, and POST requests
+ * only when they never reached the backend.
+ * Identical GET requests that are in flight at the same time are sent once: callers asking for the
+ * same URL with the same credentials and response type share one exchange and one decoded result,
+ * which they must therefore treat as read-only.
+ * GET responses go through an {@link HttpCache}: fresh stored responses are decoded without asking
+ * the backend, and stale ones are revalidated, so an unchanged response costs only a 304.
+ * The futures complete on the shared HTTP client's threads, so callers must move UI work to the
+ * JavaFX thread.
  */
 public class ApiClient {
-    
-    private static final String API_BASE_URL = "https://ceng-453-group-3.onrender.com/api";
-    private final HttpClient httpClient;
+
+    private static final String API_BASE_URL = AppConfig.BASE_API_URL;
+
+    private static ApiClient instance;
+
+    private final HttpClientManager httpClientManager;
+    private final HttpCache httpCache;
     private final ObjectMapper objectMapper;
-    
-    public ApiClient() {
-        httpClient = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_2)
-                .build();
-        objectMapper = new ObjectMapper();
+    private final ObjectWriter writer;
+
+    // Readers are immutable and thread-safe, so each response type gets one
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    // GET requests being sent, by URL, credentials and response type
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    // Retry policies that differ from the default for their method, by endpoint
+    private final Map<String, RetryPolicy> retryPolicies = new ConcurrentHashMap<>();
+
+    // Private constructor for singleton pattern
+    private ApiClient() {
+        // Shared with the other services, so requests reuse the same connections
+        httpClientManager = HttpClientManager.getInstance();
+        httpCache = HttpCache.getInstance();
+        objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        writer = objectMapper.writer();
+
+        // Ending a game names the game and its winner, so repeating it changes nothing,
+        // and a lost call loses the result
+        retryPolicies.put("/game/end", RetryPolicy.IDEMPOTENT);
     }
-    
+
+    // Get singleton instance
+    public static synchronized ApiClient getInstance() {
+        if (instance == null) {
+            instance = new ApiClient();
+        }
+        return instance;
+    }
+
     /**
      * Makes a GET request to the specified endpoint.
-     * 
+     *
      * @param endpoint The API endpoint (e.g., "/users")
-     * @param onSuccess Callback for successful response
-     * @param onError Callback for error
-     */
-    public void get(String endpoint, Consumer<String> onSuccess, Consumer<String> onError) {
-        String url = API_BASE_URL + endpoint;
-        
-        HttpRequest request = HttpRequest.newBuilder()
-                .GET()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .build();
-        
-        // Add authorization header if user is logged in
-        if (SessionManager.getInstance().isLoggedIn()) {
-            request = HttpRequest.newBuilder(request, (name, value) -> true)
-                    .header("Authorization", "Bearer " + SessionManager.getInstance().getAuthToken())
-                    .build();
-        }
-        
-        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(HttpResponse::body)
-                .thenAccept(onSuccess)
-                .exceptionally(e -> {
-                    onError.accept(e.getMessage());
-                    return null;
-                });
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> get(String endpoint, TypeReference<T> responseType) {
+        return send("GET", endpoint, null, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Makes a GET request to the specified endpoint.
+     *
+     * @param endpoint The API endpoint (e.g., "/users")
+     * @param responseType The class to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> get(String endpoint, Class<T> responseType) {
+        return send("GET", endpoint, null, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Gets the stored response of a GET request without contacting the backend, even if it is
+     * stale, so a screen can show it while the current one loads.
+     *
+     * @param endpoint The API endpoint (e.g., "/users")
+     * @param responseType The type to decode the response as
+     * @return A future completing with the stored response, or with null if none is stored
+     */
+    public <T> CompletableFuture<T> getCached(String endpoint, TypeReference<T> responseType) {
+        JavaType type = objectMapper.constructType(responseType);
+        String cacheKey = getCacheKey(API_BASE_URL + endpoint);
+        return CompletableFuture.supplyAsync(() -> {
+            HttpCache.Entry entry = httpCache.get(cacheKey);
+            byte[] body = entry != null ? httpCache.readBody(entry) : null;
+            return body != null ? this.<T>decode(type, body) : null;
+        }, httpClientManager.getExecutor());
     }
-    
+
     /**
      * Makes a POST request to the specified endpoint.
-     * 
+     *
      * @param endpoint The API endpoint (e.g., "/users")
-     * @param requestBody The request body as JSON string
-     * @param onSuccess Callback for successful response
-     * @param onError Callback for error
-     */
-    public void post(String endpoint, String requestBody, Consumer<String> onSuccess, Consumer<String> onError) {
-        String url = API_BASE_URL + endpoint;
-        
-        HttpRequest request = HttpRequest.newBuilder()
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .build();
-        
-        // Add authorization header if user is logged in
-        if (SessionManager.getInstance().isLoggedIn()) {
-            request = HttpRequest.newBuilder(request, (name, value) -> true)
-                    .header("Authorization", "Bearer " + SessionManager.getInstance().getAuthToken())
-                    .build();
-        }
-        
-        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(HttpResponse::body)
-                .thenAccept(onSuccess)
-                .exceptionally(e -> {
-                    onError.accept(e.getMessage());
-                    return null;
-                });
+     * @param requestBody The request body, serialized as JSON
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> post(String endpoint, Object requestBody, TypeReference<T> responseType) {
+        return send("POST", endpoint, requestBody, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Makes a POST request to the specified endpoint.
+     *
+     * @param endpoint The API endpoint (e.g., "/users")
+     * @param requestBody The request body, serialized as JSON
+     * @param responseType The class to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> post(String endpoint, Object requestBody, Class<T> responseType) {
+        return send("POST", endpoint, requestBody, objectMapper.constructType(responseType));
     }
-    
+
     /**
      * Makes a PUT request to the specified endpoint.
-     * 
+     *
      * @param endpoint The API endpoint (e.g., "/users/123")
-     * @param requestBody The request body as JSON string
-     * @param onSuccess Callback for successful response
-     * @param onError Callback for error
-     */
-    public void put(String endpoint, String requestBody, Consumer<String> onSuccess, Consumer<String> onError) {
-        String url = API_BASE_URL + endpoint;
-        
-        HttpRequest request = HttpRequest.newBuilder()
-                .PUT(HttpRequest.BodyPublishers.ofString(requestBody))
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .build();
-        
-        // Add authorization header if user is logged in
-        if (SessionManager.getInstance().isLoggedIn()) {
-            request = HttpRequest.newBuilder(request, (name, value) -> true)
-                    .header("Authorization", "Bearer " + SessionManager.getInstance().getAuthToken())
-                    .build();
-        }
-        
-        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(HttpResponse::body)
-                .thenAccept(onSuccess)
-                .exceptionally(e -> {
-                    onError.accept(e.getMessage());
-                    return null;
-                });
+     * @param requestBody The request body, serialized as JSON
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> put(String endpoint, Object requestBody, TypeReference<T> responseType) {
+        return send("PUT", endpoint, requestBody, objectMapper.constructType(responseType));
     }
-    
+
+    /**
+     * Makes a PUT request to the specified endpoint.
+     *
+     * @param endpoint The API endpoint (e.g., "/users/123")
+     * @param requestBody The request body, serialized as JSON
+     * @param responseType The class to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> put(String endpoint, Object requestBody, Class<T> responseType) {
+        return send("PUT", endpoint, requestBody, objectMapper.constructType(responseType));
+    }
+
     /**
      * Makes a DELETE request to the specified endpoint.
-     * 
+     *
      * @param endpoint The API endpoint (e.g., "/users/123")
-     * @param onSuccess Callback for successful response
-     * @param onError Callback for error
-     */
-    public void delete(String endpoint, Consumer<String> onSuccess, Consumer<String> onError) {
-        String url = API_BASE_URL + endpoint;
-        
-        HttpRequest request = HttpRequest.newBuilder()
-                .DELETE()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .build();
-        
-        // Add authorization header if user is logged in
-        if (SessionManager.getInstance().isLoggedIn()) {
-            request = HttpRequest.newBuilder(request, (name, value) -> true)
-                    .header("Authorization", "Bearer " + SessionManager.getInstance().getAuthToken())
-                    .build();
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> delete(String endpoint, TypeReference<T> responseType) {
+        return send("DELETE", endpoint, null, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Makes a DELETE request to the specified endpoint.
+     *
+     * @param endpoint The API endpoint (e.g., "/users/123")
+     * @param responseType The class to decode the response as, or Void.class to ignore the body
+     * @return A future completing with the decoded response
+     */
+    public <T> CompletableFuture<T> delete(String endpoint, Class<T> responseType) {
+        return send("DELETE", endpoint, null, objectMapper.constructType(responseType));
+    }
+
+    /**
+     * Sends a request and decodes its response.
+     *
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @param requestBody The request body, or null for none
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    private <T> CompletableFuture<T> send(String method, String endpoint, Object requestBody, JavaType responseType) {
+        HttpRequest request;
+        try {
+            request = buildRequest(method, endpoint, requestBody);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (!"GET".equals(method)) {
+            return exchange(request, method, endpoint, responseType);
         }
-        
-        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .thenApply(HttpResponse::body)
-                .thenAccept(onSuccess)
-                .exceptionally(e -> {
-                    onError.accept(e.getMessage());
-                    return null;
+
+        // Join an identical request that is already on its way
+        String key = request.uri() + " " + request.headers().firstValue("Authorization").orElse("")
+                + " " + responseType.toCanonical();
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        shared.whenComplete((result, error) -> inFlight.remove(key, shared));
+        this.<T>cachedExchange(request, endpoint, responseType).whenComplete((result, error) -> {
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(result);
+            }
+        });
+        // Callers get a copy, so one cancelling does not affect the others
+        return shared.copy();
+    }
+
+    /**
+     * Sends a request with the retry policy for its endpoint and decodes the response.
+     *
+     * @param request The request
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    private <T> CompletableFuture<T> exchange(HttpRequest request, String method, String endpoint, JavaType responseType) {
+        return httpClientManager.send(request, this.<T>jsonHandler(method, endpoint, responseType),
+                        getRetryPolicy(method, endpoint))
+                .thenApply(response -> response.body().get());
+    }
+
+    /**
+     * Sends a GET request through the HTTP cache. A fresh stored response is decoded without
+     * contacting the backend; otherwise the request carries the stored validators, and a 304
+     * answer reuses the stored body.
+     *
+     * @param request The request
+     * @param endpoint The API endpoint
+     * @param responseType The type to decode the response as
+     * @return A future completing with the decoded response
+     */
+    private <T> CompletableFuture<T> cachedExchange(HttpRequest request, String endpoint, JavaType responseType) {
+        String cacheKey = getCacheKey(request.uri().toString());
+
+        // The first lookup reads the cache directory, so it runs on the client's threads
+        return CompletableFuture.supplyAsync(() -> httpCache.get(cacheKey), httpClientManager.getExecutor())
+                .thenCompose(entry -> {
+                    if (entry != null && entry.isFresh()) {
+                        byte[] body = httpCache.readBody(entry);
+                        if (body != null) {
+                            return CompletableFuture.completedFuture(this.<T>decode(responseType, body));
+                        }
+                    }
+
+                    HttpRequest.Builder conditional = HttpRequest.newBuilder(request, (name, value) -> true);
+                    if (entry != null && entry.getEtag() != null) {
+                        conditional.header("If-None-Match", entry.getEtag());
+                    }
+                    if (entry != null && entry.getLastModified() != null) {
+                        conditional.header("If-Modified-Since", entry.getLastModified());
+                    }
+
+                    return httpClientManager.send(conditional.build(), HttpResponse.BodyHandlers.ofByteArray(),
+                                    getRetryPolicy("GET", endpoint))
+                            .thenApply(response -> {
+                                int statusCode = response.statusCode();
+                                if (statusCode == 304 && entry != null) {
+                                    byte[] body = httpCache.readBody(entry);
+                                    if (body == null) {
+                                        throw new ApiException("GET", endpoint, statusCode, "Cached response is missing");
+                                    }
+                                    httpCache.revalidated(entry, response.headers());
+                                    return this.<T>decode(responseType, body);
+                                }
+                                if (statusCode < 200 || statusCode >= 300) {
+                                    throw new ApiException("GET", endpoint, statusCode,
+                                            new String(response.body(), StandardCharsets.UTF_8));
+                                }
+
+                                // Decoded first, so a response that cannot be read is not stored
+                                T result = this.<T>decode(responseType, response.body());
+                                httpCache.put(cacheKey, response.headers(), response.body());
+                                return result;
+                            });
                 });
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the key a GET response is cached under. It names the user rather than the token,
+     * so stored responses outlive a session and can be shown right after the next login.
+     *
+     * @param url The full URL
+     * @return The cache key
+     */
+    private String getCacheKey(String url) {
+        SessionManager session = SessionManager.getInstance();
+        String user = session.isLoggedIn() && session.getCurrentUser() != null
+                ? session.getCurrentUser().getUsername() : "";
+        return url + " " + user;
+    }
+
+    /**
+     * Gets the retry policy for a call.
+     *
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @return The policy registered for the endpoint, or the default for the method
+     */
+    private RetryPolicy getRetryPolicy(String method, String endpoint) {
+        int queryStart = endpoint.indexOf('?');
+        RetryPolicy retryPolicy = retryPolicies.get(queryStart < 0 ? endpoint : endpoint.substring(0, queryStart));
+        if (retryPolicy != null) {
+            return retryPolicy;
+        }
+        return "POST".equals(method) ? RetryPolicy.UNSENT_ONLY : RetryPolicy.IDEMPOTENT;
+    }
+
+    /**
+     * Builds a request, adding the authorization header if the user is logged in.
+     *
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @param requestBody The request body, or null for none
+     * @return The request
+     * @throws JsonProcessingException If the body could not be serialized
+     */
+    private HttpRequest buildRequest(String method, String endpoint, Object requestBody) throws JsonProcessingException {
+        HttpRequest.BodyPublisher body = requestBody == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(writer.writeValueAsBytes(requestBody));
+
+        HttpRequest.Builder builder = httpClientManager.newRequest(API_BASE_URL + endpoint)
+                .method(method, body)
+                .header("Accept", "application/json");
+
+        // Add authorization header if user is logged in
+        SessionManager session = SessionManager.getInstance();
+        if (session.isLoggedIn()) {
+            builder.header("Authorization", "Bearer " + session.getAuthToken());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a body handler that collects a successful response and decodes it when the returned
+     * supplier is called. The body arrives without blocking any thread, and decoding it from memory
+     * after the client has handed the response over keeps errors out of the client's own handling.
+     *
+     * @param method The HTTP method, for error messages
+     * @param endpoint The API endpoint, for error messages
+     * @param responseType The type to decode the response as
+     * @return The body handler
+     */
+    private <T> HttpResponse.BodyHandler<Supplier<T>> jsonHandler(String method, String endpoint, JavaType responseType) {
+        return responseInfo -> {
+            int statusCode = responseInfo.statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                // Fail without decoding, keeping the body for the error message
+                return HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                        body -> () -> {
+                            throw new ApiException(method, endpoint, statusCode, body);
+                        });
+            }
+            if (statusCode == 204 || responseType.hasRawClass(Void.class)) {
+                return HttpResponse.BodySubscribers.<Supplier<T>>replacing(() -> null);
+            }
+
+            return HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofByteArray(),
+                    body -> () -> decode(responseType, body));
+        };
+    }
+
+    private ObjectReader getReader(JavaType responseType) {
+        return readers.computeIfAbsent(responseType, objectMapper::readerFor);
+    }
+
+    private <T> T decode(JavaType responseType, byte[] body) {
+        try {
+            return getReader(responseType).readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode response: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+/**
+ * Thrown when the backend answers a request with a status code outside the 2xx range.
+ */
+public class ApiException extends RuntimeException {
+
+    /**
+     * Creates an exception for a failed request.
+     *
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @param statusCode The status code of the response
+     * @param responseBody The response body, read as text
+     */
+    public ApiException(String method, String endpoint, int statusCode, String responseBody) {
+        super(method + " " + endpoint + " failed with status " + statusCode
+                + (responseBody == null || responseBody.isBlank() ? "" : ": " + responseBody));
+    }
+}
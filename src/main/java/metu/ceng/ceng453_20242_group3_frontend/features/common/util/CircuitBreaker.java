@@ -0,0 +1,121 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Stops sending requests to the backend while it is down.
+ * After a number of failures in a row the circuit opens, and requests fail immediately instead
+ * of each waiting for its own timeout. Once the open period has passed, a single request is let
+ * through as a probe: if it succeeds the circuit closes again, otherwise it stays open for another
+ * period. Thread-safe.
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of the circuit.
+     */
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Thrown instead of sending a request while the circuit is open.
+     */
+    public static class OpenException extends RuntimeException {
+        public OpenException(String name, long retryAfterMillis) {
+            super("The " + name + " is unavailable, trying again in " + Math.max(1, (retryAfterMillis + 999) / 1000) + " s");
+        }
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtNanos;
+    private boolean probeInFlight = false;
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param name The name of the guarded service, for messages, e.g. "server"
+     * @param failureThreshold The number of failures in a row that opens the circuit
+     * @param openMillis How long the circuit stays open before a probe is let through
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates a closed circuit breaker that reads the time from the given clock.
+     *
+     * @param name The name of the guarded service, for messages
+     * @param failureThreshold The number of failures in a row that opens the circuit
+     * @param openMillis How long the circuit stays open before a probe is let through
+     * @param nanoClock The time source, in nanoseconds
+     */
+    CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Asks to send a request. Every granted request must be followed by a call to
+     * {@link #recordSuccess()} or {@link #recordFailure()}.
+     *
+     * @throws OpenException If the circuit is open or a probe is already in flight
+     */
+    public synchronized void acquire() {
+        switch (state) {
+            case CLOSED:
+                return;
+            case OPEN:
+                long remainingNanos = openedAtNanos + openNanos - nanoClock.getAsLong();
+                if (remainingNanos > 0) {
+                    throw new OpenException(name, remainingNanos / 1_000_000L);
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                System.out.println("Circuit for " + name + " is half open, sending a probe");
+                return;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    throw new OpenException(name, 0);
+                }
+                probeInFlight = true;
+        }
+    }
+
+    /**
+     * Records that a granted request reached a working backend.
+     */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            System.out.println("Circuit for " + name + " closed, it is responding again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * Records that a granted request failed because of the backend or the network.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+            System.err.println("Circuit for " + name + " opened after " + consecutiveFailures
+                    + " failures, failing fast for " + openNanos / 1_000_000_000L + " s");
+        }
+    }
+}
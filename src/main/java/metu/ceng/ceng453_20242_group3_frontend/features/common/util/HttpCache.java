@@ -0,0 +1,381 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Keeps GET responses from the backend on disk, following their Cache-Control, ETag and
+ * Last-Modified headers.
+ * A response is stored unless it is marked no-store, as long as it can be reused: it either has
+ * a max-age or a validator to revalidate it with. Within its max-age it is used without asking the
+ * backend. After that, or if it is marked no-cache, the request carries If-None-Match and
+ * If-Modified-Since, and a 304 answer reuses the stored body.
+ * Each entry is a body file and a small properties file, named after a hash of its key. The total
+ * size is bounded, and the least recently used entries are removed first; the order survives
+ * restarts through the files' modification times. Thread-safe: writes are serialized, and every
+ * write goes through its own temporary file, so concurrent writers never share one.
+ */
+public class HttpCache {
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * A stored response, without its body.
+     */
+    public static final class Entry {
+        private final String fileName;
+        private final String etag;
+        private final String lastModified;
+        private final long storedAtMillis;
+        private final long maxAgeMillis;
+        private final boolean noCache;
+        private final long size;
+
+        private Entry(String fileName, String etag, String lastModified, long storedAtMillis,
+                      long maxAgeMillis, boolean noCache, long size) {
+            this.fileName = fileName;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.storedAtMillis = storedAtMillis;
+            this.maxAgeMillis = maxAgeMillis;
+            this.noCache = noCache;
+            this.size = size;
+        }
+
+        /**
+         * Checks whether the entry can be used without asking the backend.
+         *
+         * @return true if it is within its max-age and not marked no-cache
+         */
+        public boolean isFresh() {
+            return !noCache && System.currentTimeMillis() - storedAtMillis < maxAgeMillis;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+    }
+
+    private static HttpCache instance;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // Entries, least recently used first
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+    private boolean indexLoaded = false;
+
+    // Private constructor for singleton pattern
+    private HttpCache() {
+        this(Paths.get(AppConfig.HTTP_CACHE_DIRECTORY), AppConfig.HTTP_CACHE_MAX_BYTES);
+    }
+
+    /**
+     * Creates a cache in the given directory, for tests.
+     *
+     * @param directory The directory holding the entries
+     * @param maxBytes The total body size above which entries are evicted
+     */
+    HttpCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    // Get singleton instance
+    public static synchronized HttpCache getInstance() {
+        if (instance == null) {
+            instance = new HttpCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Looks up a stored response. Reads the cache directory on first use, so it should not be
+     * called on the JavaFX thread.
+     *
+     * @param key The cache key, e.g. the URL and the user it was fetched for
+     * @return The entry, or null if nothing is stored
+     */
+    public synchronized Entry get(String key) {
+        loadIndex();
+        Entry entry = entries.get(hash(key));
+        if (entry != null) {
+            touch(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Reads the body of a stored response.
+     *
+     * @param entry The entry
+     * @return The body, or null if its file could not be read
+     */
+    public byte[] readBody(Entry entry) {
+        try {
+            return Files.readAllBytes(directory.resolve(entry.fileName + BODY_SUFFIX));
+        } catch (IOException e) {
+            System.err.println("Could not read cached response: " + e.getMessage());
+            remove(entry.fileName);
+            return null;
+        }
+    }
+
+    /**
+     * Stores a successful response if its headers allow it, replacing what was stored before.
+     *
+     * @param key The cache key
+     * @param headers The response headers
+     * @param body The response body
+     */
+    public synchronized void put(String key, HttpHeaders headers, byte[] body) {
+        String cacheControl = String.join(",", headers.allValues("Cache-Control")).toLowerCase(Locale.ROOT);
+        String etag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        long maxAgeMillis = parseMaxAge(cacheControl) * 1000;
+        String fileName = hash(key);
+
+        if (cacheControl.contains("no-store") || body.length > maxBytes
+                || (maxAgeMillis <= 0 && etag == null && lastModified == null)) {
+            // Nothing that could be reused, and an older copy would be out of date
+            remove(fileName);
+            return;
+        }
+
+        Entry entry = new Entry(fileName, etag, lastModified, System.currentTimeMillis(), maxAgeMillis,
+                cacheControl.contains("no-cache"), body.length);
+        try {
+            Files.createDirectories(directory);
+            writeAtomically(directory.resolve(fileName + BODY_SUFFIX), body);
+            writeAtomically(directory.resolve(fileName + META_SUFFIX), toProperties(entry));
+        } catch (IOException e) {
+            System.err.println("Could not cache response: " + e.getMessage());
+            remove(fileName);
+            return;
+        }
+        add(entry);
+    }
+
+    /**
+     * Marks a stored response as confirmed by a 304 answer, taking over the freshness and
+     * validators the answer carries.
+     *
+     * @param entry The entry that was revalidated
+     * @param headers The headers of the 304 answer
+     */
+    public synchronized void revalidated(Entry entry, HttpHeaders headers) {
+        String cacheControl = String.join(",", headers.allValues("Cache-Control")).toLowerCase(Locale.ROOT);
+        long maxAgeMillis = cacheControl.isEmpty() ? entry.maxAgeMillis : parseMaxAge(cacheControl) * 1000;
+        Entry updated = new Entry(entry.fileName,
+                headers.firstValue("ETag").orElse(entry.etag),
+                headers.firstValue("Last-Modified").orElse(entry.lastModified),
+                System.currentTimeMillis(), maxAgeMillis,
+                cacheControl.isEmpty() ? entry.noCache : cacheControl.contains("no-cache"), entry.size);
+        try {
+            writeAtomically(directory.resolve(entry.fileName + META_SUFFIX), toProperties(updated));
+        } catch (IOException e) {
+            System.err.println("Could not update cached response: " + e.getMessage());
+            return;
+        }
+        add(updated);
+    }
+
+    private synchronized void add(Entry entry) {
+        loadIndex();
+        Entry previous = entries.put(entry.fileName, entry);
+        if (previous != null) {
+            totalBytes -= previous.size;
+        }
+        totalBytes += entry.size;
+
+        // Evict least recently used entries until the cache fits
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (eldest == entry) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.size;
+            deleteFiles(eldest.fileName);
+        }
+    }
+
+    private synchronized void remove(String fileName) {
+        Entry entry = entries.remove(fileName);
+        if (entry != null) {
+            totalBytes -= entry.size;
+        }
+        deleteFiles(fileName);
+    }
+
+    /**
+     * Records a use of an entry on disk, so the eviction order survives restarts.
+     */
+    private void touch(Entry entry) {
+        try {
+            Files.setLastModifiedTime(directory.resolve(entry.fileName + META_SUFFIX),
+                    FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Only the eviction order is affected
+        }
+    }
+
+    /**
+     * Reads the entries in the cache directory, ordered by when they were last used.
+     */
+    private void loadIndex() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLoaded = true;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> metaFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(META_SUFFIX)) {
+                    metaFiles.add(path);
+                } else if (name.endsWith(TEMP_SUFFIX)) {
+                    // Left behind by a process that stopped while writing
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not read HTTP cache: " + e.getMessage());
+            return;
+        }
+        metaFiles.sort((a, b) -> Long.compare(lastModifiedMillis(a), lastModifiedMillis(b)));
+
+        for (Path metaFile : metaFiles) {
+            String name = metaFile.getFileName().toString();
+            String fileName = name.substring(0, name.length() - META_SUFFIX.length());
+            try (InputStream in = Files.newInputStream(metaFile)) {
+                Properties properties = new Properties();
+                properties.load(in);
+                Entry entry = new Entry(fileName,
+                        properties.getProperty("etag"),
+                        properties.getProperty("lastModified"),
+                        Long.parseLong(properties.getProperty("storedAt")),
+                        Long.parseLong(properties.getProperty("maxAge")),
+                        Boolean.parseBoolean(properties.getProperty("noCache")),
+                        Files.size(directory.resolve(fileName + BODY_SUFFIX)));
+                entries.put(fileName, entry);
+                totalBytes += entry.size;
+            } catch (IOException | RuntimeException e) {
+                // Incomplete or corrupt entry
+                deleteFiles(fileName);
+            }
+        }
+    }
+
+    private void deleteFiles(String fileName) {
+        try {
+            Files.deleteIfExists(directory.resolve(fileName + BODY_SUFFIX));
+            Files.deleteIfExists(directory.resolve(fileName + META_SUFFIX));
+        } catch (IOException e) {
+            System.err.println("Could not delete cached response: " + e.getMessage());
+        }
+    }
+
+    private static byte[] toProperties(Entry entry) throws IOException {
+        Properties properties = new Properties();
+        if (entry.etag != null) {
+            properties.setProperty("etag", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            properties.setProperty("lastModified", entry.lastModified);
+        }
+        properties.setProperty("storedAt", Long.toString(entry.storedAtMillis));
+        properties.setProperty("maxAge", Long.toString(entry.maxAgeMillis));
+        properties.setProperty("noCache", Boolean.toString(entry.noCache));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        properties.store(out, null);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a file through a temporary file of its own, so a crash never leaves half an entry
+     * behind and two writers never write into the same file.
+     */
+    private static void writeAtomically(Path path, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(content);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gets the max-age directive of a Cache-Control header.
+     *
+     * @param cacheControl The lower-case header value
+     * @return The max-age in seconds, or 0 if it is missing or invalid
+     */
+    private static long parseMaxAge(String cacheControl) {
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Math.max(0, Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", "")));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Holds the one HTTP client the application talks to the backend with.
+ * Every service sends its requests through this client, so they share its connection pool: with
+ * HTTP/2 the requests to the backend are multiplexed over the same connection, and after login the
+ * leaderboard and game calls no longer pay for a new TCP and TLS handshake. Responses are handled
+ * on a small pool of daemon threads owned by the client instead of the common fork-join pool.
+ * Requests sent through {@link #send} are guarded by one circuit breaker for the backend and retried
+ * according to a {@link RetryPolicy}, since the backend's host sleeps when idle and times out while
+ * it wakes up.
+ */
+public class HttpClientManager {
+
+    private static HttpClientManager instance;
+
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("server",
+            AppConfig.CIRCUIT_FAILURE_THRESHOLD, AppConfig.CIRCUIT_OPEN_SECONDS * 1000L);
+
+    // Private constructor for singleton pattern
+    private HttpClientManager() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(AppConfig.HTTP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "http-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(AppConfig.HTTP_CONNECT_TIMEOUT_SECONDS))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    // Get singleton instance
+    public static synchronized HttpClientManager getInstance() {
+        if (instance == null) {
+            instance = new HttpClientManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the executor the client completes its requests on, for work that should follow
+     * a response without moving to another pool.
+     *
+     * @return The executor
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sends a request through the circuit breaker, retrying it as the policy allows.
+     * The future completes with the last response received, even if its status is an error, so
+     * callers keep their own status handling. It fails with a {@link CircuitBreaker.OpenException}
+     * without sending anything while the backend is known to be down.
+     *
+     * @param request The request to send
+     * @param bodyHandler The handler for the response body
+     * @param retryPolicy The policy deciding which failures are retried
+     * @return A future completing with the response
+     */
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                       RetryPolicy retryPolicy) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        sendAttempt(request, bodyHandler, retryPolicy, 1, result);
+        return result;
+    }
+
+    private <T> void sendAttempt(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, RetryPolicy retryPolicy,
+                                 int attempt, CompletableFuture<HttpResponse<T>> result) {
+        try {
+            circuitBreaker.acquire();
+        } catch (CircuitBreaker.OpenException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        client.sendAsync(request, bodyHandler).whenComplete((response, error) -> {
+            boolean failed = error != null ? isNetworkError(error) : isServerFailure(response.statusCode());
+            if (failed) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+
+            if (failed && retryPolicy.shouldRetry(attempt, error, response)) {
+                long delayMillis = retryPolicy.getDelayMillis(attempt, response);
+                System.err.println(String.format("%s %s failed (%s), retrying in %d ms", request.method(),
+                        request.uri().getPath(), error != null ? describe(error) : "status " + response.statusCode(),
+                        delayMillis));
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor)
+                        .execute(() -> sendAttempt(request, bodyHandler, retryPolicy, attempt + 1, result));
+            } else if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(response);
+            }
+        });
+    }
+
+    /**
+     * Checks whether a request failed because the backend or the network did not answer in time,
+     * as opposed to a bug on either side.
+     *
+     * @param error The error the request failed with
+     * @return true for I/O errors, including timeouts
+     */
+    public static boolean isNetworkError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a status code means the backend is down or still starting, which the host
+     * reports as a gateway error.
+     *
+     * @param statusCode The status code of a response
+     * @return true for 502, 503 and 504
+     */
+    public static boolean isServerFailure(int statusCode) {
+        return statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    /**
+     * Starts a JSON request with the application's request timeout.
+     *
+     * @param url The full URL
+     * @return A request builder, ready for the method and body to be set
+     */
+    public HttpRequest.Builder newRequest(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(AppConfig.HTTP_REQUEST_TIMEOUT_SECONDS))
+                .header("Content-Type", "application/json");
+    }
+
+    /**
+     * Gets a readable message for a failed request, since the client wraps its errors.
+     *
+     * @param error The error the request completed with
+     * @return The message of the underlying error
+     */
+    public static String describe(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
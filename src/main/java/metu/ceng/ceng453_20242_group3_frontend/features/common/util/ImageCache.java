@@ -0,0 +1,112 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+
+/**
+ * Application-wide cache for images loaded from classpath resources.
+ * Images are keyed by resource path and requested size, decoded in the background by JavaFX,
+ * and evicted in least-recently-used order once the cache is full.
+ */
+public class ImageCache {
+
+    // Number of entries kept before the least recently used image is evicted
+    private static final int MAX_ENTRIES = 32;
+
+    private static ImageCache instance;
+
+    // Access-ordered, so the eldest entry is the least recently used one
+    private final Map<String, Image> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // Private constructor for singleton pattern
+    private ImageCache() {
+    }
+
+    // Get singleton instance
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets an image at its natural size.
+     *
+     * @param resourcePath The classpath resource path (e.g. "/images/app_icon.png")
+     * @return The image, or null if the resource does not exist
+     */
+    public Image get(String resourcePath) {
+        return get(resourcePath, 0, 0);
+    }
+
+    /**
+     * Gets an image decoded at the requested size, keeping its aspect ratio.
+     * A size of 0 keeps the image's natural size in that dimension.
+     *
+     * @param resourcePath The classpath resource path
+     * @param width The requested width
+     * @param height The requested height
+     * @return The image, or null if the resource does not exist
+     */
+    public synchronized Image get(String resourcePath, double width, double height) {
+        return lookup(resourcePath, width, height, true);
+    }
+    
+    /**
+     * Gets an image at its natural size, decoding it on the calling thread if it is not cached yet.
+     * Use for images that must be complete when handed over, such as window icons.
+     *
+     * @param resourcePath The classpath resource path
+     * @return The image, or null if the resource does not exist
+     */
+    public synchronized Image getLoaded(String resourcePath) {
+        return lookup(resourcePath, 0, 0, false);
+    }
+
+    /**
+     * Starts decoding images ahead of time so they are ready when first shown.
+     *
+     * @param resourcePaths The classpath resource paths
+     */
+    public void preload(String... resourcePaths) {
+        for (String resourcePath : resourcePaths) {
+            get(resourcePath);
+        }
+    }
+
+    /**
+     * Finds a cached image or starts loading it.
+     */
+    private Image lookup(String resourcePath, double width, double height, boolean backgroundLoading) {
+        // Synchronous loads get their own entry, since a background-loaded image may still be decoding
+        String key = key(resourcePath, width, height, backgroundLoading);
+        Image image = entries.get(key);
+        if (image != null) {
+            return image;
+        }
+
+        URL url = ImageCache.class.getResource(resourcePath);
+        if (url == null) {
+            System.err.println("Image resource not found: " + resourcePath);
+            return null;
+        }
+
+        // Background-loaded images fill in once decoding completes
+        image = new Image(url.toExternalForm(), width, height, true, true, backgroundLoading);
+        entries.put(key, image);
+        return image;
+    }
+
+    private static String key(String resourcePath, double width, double height, boolean backgroundLoading) {
+        return resourcePath + "@" + width + "x" + height + (backgroundLoading ? "" : ":loaded");
+    }
+}
@@ -9,6 +9,7 @@ import java.nio.file.Paths;
 
 import javax.imageio.ImageIO;
 
+import javafx.application.Platform;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -22,23 +23,23 @@ import javafx.scene.text.TextAlignment;
  */
 public class LogoGenerator {
 
+    // File name of the generated logo
+    private static final String LOGO_FILE = "CengUnoLogo.png";
+
     /**
-     * Generates a simple UNO logo and saves it to the resources directory.
+     * Generates a simple UNO logo and saves it to the given directory.
+     * Must be called on the JavaFX application thread, since the logo is drawn on a canvas.
+     *
+     * @param imagesDir The directory to write the logo to
      */
-    public static void generateLogo() {
+    public static void generateLogo(Path imagesDir) {
         try {
             // Create directory if it doesn't exist
-            Path imagesDir = Paths.get("src/main/resources/images");
             if (!Files.exists(imagesDir)) {
                 Files.createDirectories(imagesDir);
             }
             
-            // Check if logo already exists
-            Path logoPath = imagesDir.resolve("CengUnoLogo.png");
-            if (Files.exists(logoPath)) {
-                System.out.println("Logo already exists at: " + logoPath.toAbsolutePath());
-                return;
-            }
+            Path logoPath = imagesDir.resolve(LOGO_FILE);
             
             // Create a canvas to draw on
             Canvas canvas = new Canvas(400, 200);
@@ -77,6 +78,10 @@ public class LogoGenerator {
     }
     
     public static void main(String[] args) {
-        generateLogo();
+        // Regenerates the bundled copy
+        Platform.startup(() -> {
+            generateLogo(Paths.get("src/main/resources/images"));
+            Platform.exit();
+        });
     }
 } 
\ No newline at end of file
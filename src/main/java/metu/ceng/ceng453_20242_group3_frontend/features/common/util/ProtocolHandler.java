@@ -6,42 +6,105 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
 
 /**
  * Utility class for handling custom URI protocols like 'uno-reset://' for password reset links.
+ * Registration is idempotent: a fingerprint of the operating system and the command that launches
+ * the application is stored after a successful registration, and later launches skip registration
+ * while the fingerprint still matches and the registered files are still in place.
  */
 public class ProtocolHandler {
     
     private static final String PROTOCOL_NAME = "uno-reset";
     
+    // Name of the XDG desktop entry that handles the protocol on Linux
+    private static final String LINUX_DESKTOP_FILE = "uno-reset-handler.desktop";
+    private static final String LINUX_MIME_TYPE = "x-scheme-handler/" + PROTOCOL_NAME;
+    
+    // Bumped whenever the registration itself changes, so existing registrations are redone
+    private static final int REGISTRATION_VERSION = 2;
+    
+    // Time allowed for each registration command
+    private static final long COMMAND_TIMEOUT_SECONDS = 10;
+    
     /**
-     * Registers the custom URI protocol with the operating system.
-     * This should be called during application installation or first run.
-     * 
-     * Note: This is a simplified implementation. In a production application,
-     * you would need to handle registry settings on Windows, or appropriate
-     * configuration on macOS/Linux.
+     * Registers the custom URI protocol with the operating system, unless the current
+     * installation is already registered. Blocks while registration runs, so applications
+     * should use {@link #registerProtocolAsync()}.
      */
     public static void registerProtocol() {
         // This is a platform-dependent operation
         String os = System.getProperty("os.name").toLowerCase();
         
         try {
+            List<String> launchCommand = getLaunchCommand();
+            if (launchCommand == null) {
+                System.err.println("Protocol handler not registered: could not determine how the application was launched");
+                return;
+            }
+            
+            String fingerprint = computeFingerprint(os, launchCommand);
+            if (isRegistered(os, fingerprint)) {
+                return;
+            }
+            
+            boolean registered = false;
             if (os.contains("win")) {
                 // Windows implementation
-                registerWindows();
+                registered = registerWindows(launchCommand);
             } else if (os.contains("mac")) {
                 // macOS implementation
-                registerMacOS();
+                registered = registerMacOS();
             } else if (os.contains("nix") || os.contains("nux")) {
                 // Linux implementation
-                registerLinux();
+                registered = registerLinux(launchCommand);
+            }
+            
+            if (registered) {
+                Path fingerprintFile = Paths.get(AppConfig.PROTOCOL_REGISTRATION_FILE);
+                Files.createDirectories(fingerprintFile.getParent());
+                Files.writeString(fingerprintFile, fingerprint, StandardCharsets.UTF_8);
+                System.out.println("Registered the " + PROTOCOL_NAME + " protocol handler");
             }
         } catch (Exception e) {
             System.err.println("Failed to register protocol handler: " + e.getMessage());
         }
     }
     
+    /**
+     * Registers the protocol on a background thread, so launching never waits for registry
+     * commands or file writes.
+     * 
+     * @return A future that completes when registration has finished or been skipped
+     */
+    public static CompletableFuture<Void> registerProtocolAsync() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                registerProtocol();
+            } finally {
+                future.complete(null);
+            }
+        }, "protocol-registration");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return future;
+    }
+    
     /**
      * Handles a URI with our custom protocol.
      * 
@@ -69,36 +132,38 @@ public class ProtocolHandler {
     
     /**
      * Registers the protocol on Windows.
+     * 
+     * @param launchCommand The command that starts the application
+     * @return true if every registry entry was written
      */
-    private static void registerWindows() throws IOException {
-        String javaHome = System.getProperty("java.home");
-        String javaBin = javaHome + File.separator + "bin" + File.separator + "java.exe";
+    private static boolean registerWindows(List<String> launchCommand) throws IOException, InterruptedException {
+        // Per-user classes, which can be written without administrator rights
+        String key = "HKEY_CURRENT_USER\\Software\\Classes\\" + PROTOCOL_NAME;
         
-        String currentJar = new File(ProtocolHandler.class.getProtectionDomain()
-                .getCodeSource().getLocation().getPath()).getPath();
+        // Quotes are escaped for reg.exe's own argument parsing
+        StringBuilder openCommand = new StringBuilder();
+        for (String arg : launchCommand) {
+            openCommand.append("\\\"").append(arg).append("\\\" ");
+        }
+        openCommand.append("\\\"%1\\\"");
         
         // Create registry settings
-        String command = "reg add HKEY_CLASSES_ROOT\\" + PROTOCOL_NAME + " /ve /d \"URL:UNO Reset Protocol\" /f";
-        Runtime.getRuntime().exec(command);
-        
-        command = "reg add HKEY_CLASSES_ROOT\\" + PROTOCOL_NAME + " /v \"URL Protocol\" /d \"\" /f";
-        Runtime.getRuntime().exec(command);
-        
-        command = "reg add HKEY_CLASSES_ROOT\\" + PROTOCOL_NAME + "\\shell\\open\\command /ve" + 
-                  " /d \"\\\"" + javaBin + "\\\" -jar \\\"" + currentJar + "\\\" %1\" /f";
-        Runtime.getRuntime().exec(command);
+        return runCommand(List.of("reg", "add", key, "/ve", "/d", "URL:UNO Reset Protocol", "/f"))
+                && runCommand(List.of("reg", "add", key, "/v", "URL Protocol", "/d", "", "/f"))
+                && runCommand(List.of("reg", "add", key + "\\shell\\open\\command", "/ve", "/d", openCommand.toString(), "/f"));
     }
     
     /**
      * Registers the protocol on macOS.
      * Note: For a complete implementation, this requires admin privileges
      * and should be part of the application installer.
+     * 
+     * @return true if the plist was written
      */
-    private static void registerMacOS() {
+    private static boolean registerMacOS() {
         try {
-            String homeDir = System.getProperty("user.home");
-            String plistPath = homeDir + "/Library/Preferences/uno-reset-handler.plist";
-            File plistFile = new File(plistPath);
+            File plistFile = getMacOSPlistPath().toFile();
+            String plistPath = plistFile.getPath();
             
             // Create plist content for the protocol handler
             StringBuilder plist = new StringBuilder();
@@ -129,17 +194,232 @@ public class ProtocolHandler {
             System.out.println("Note: On macOS, you will need to manually associate this application with the protocol.");
             System.out.println("Use 'lsregister -v -f " + plistPath + "' to register it.");
             
+            // Show special instructions for macOS users
+            System.out.println("======== IMPORTANT NOTE FOR MACOS USERS ========");
+            System.out.println("To ensure password reset links work properly:");
+            System.out.println("1. When you receive a password reset email");
+            System.out.println("2. Copy the entire 'uno-reset://TOKEN' URL");
+            System.out.println("3. Start this application manually");
+            System.out.println("4. Go to your terminal and run:");
+            System.out.println("   open \"uno-reset://TOKEN\"");
+            System.out.println("   (replacing TOKEN with your actual token)");
+            System.out.println("=================================================");
+            return true;
         } catch (Exception e) {
             System.err.println("macOS protocol registration error: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Registers the protocol on Linux with an XDG desktop entry that handles the
+     * uno-reset scheme, made the default handler for it.
+     * 
+     * @param launchCommand The command that starts the application
+     * @return true if the desktop entry was written
+     */
+    private static boolean registerLinux(List<String> launchCommand) throws IOException, InterruptedException {
+        Path applicationsDir = getLinuxApplicationsDirectory();
+        Files.createDirectories(applicationsDir);
+        
+        // Desktop entry that opens uno-reset:// links with this application
+        StringBuilder exec = new StringBuilder();
+        for (String arg : launchCommand) {
+            exec.append(quoteDesktopExecArg(arg)).append(' ');
+        }
+        exec.append("%u");
+        
+        String desktopEntry = "[Desktop Entry]\n"
+                + "Type=Application\n"
+                + "Name=" + AppConfig.GAME_TITLE + "\n"
+                + "Comment=Opens UNO password reset links\n"
+                + "Exec=" + exec + "\n"
+                + "Terminal=false\n"
+                + "NoDisplay=true\n"
+                + "MimeType=" + LINUX_MIME_TYPE + ";\n";
+        Files.writeString(applicationsDir.resolve(LINUX_DESKTOP_FILE), desktopEntry, StandardCharsets.UTF_8);
+        
+        // Make the entry the default handler; update-desktop-database only refreshes a cache, so it may fail
+        runOptionalCommand(List.of("update-desktop-database", applicationsDir.toString()));
+        if (!runOptionalCommand(List.of("xdg-mime", "default", LINUX_DESKTOP_FILE, LINUX_MIME_TYPE))) {
+            setDefaultInMimeApps();
+        }
+        return true;
+    }
+    
+    /**
+     * Sets the desktop entry as the default handler in the user's mimeapps.list, for systems
+     * without xdg-mime.
+     */
+    private static void setDefaultInMimeApps() throws IOException {
+        Path mimeApps = getXdgDirectory("XDG_CONFIG_HOME", ".config").resolve("mimeapps.list");
+        String association = LINUX_MIME_TYPE + "=" + LINUX_DESKTOP_FILE;
+        
+        List<String> lines = Files.exists(mimeApps)
+                ? new ArrayList<>(Files.readAllLines(mimeApps, StandardCharsets.UTF_8))
+                : new ArrayList<>();
+        
+        // Replace an existing association, or add one to the default applications section
+        int section = lines.indexOf("[Default Applications]");
+        if (section < 0) {
+            lines.add("[Default Applications]");
+            lines.add(association);
+        } else {
+            int insertAt = section + 1;
+            boolean replaced = false;
+            for (int i = section + 1; i < lines.size() && !lines.get(i).startsWith("["); i++) {
+                if (lines.get(i).startsWith(LINUX_MIME_TYPE + "=")) {
+                    lines.set(i, association);
+                    replaced = true;
+                    break;
+                }
+                insertAt = i + 1;
+            }
+            if (!replaced) {
+                lines.add(insertAt, association);
+            }
+        }
+        
+        Files.createDirectories(mimeApps.getParent());
+        Files.write(mimeApps, lines, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Checks whether the stored fingerprint matches and the registered files still exist.
+     * 
+     * @param os The lower-case operating system name
+     * @param fingerprint The fingerprint of the current installation
+     * @return true if registration can be skipped
+     */
+    private static boolean isRegistered(String os, String fingerprint) throws IOException {
+        Path fingerprintFile = Paths.get(AppConfig.PROTOCOL_REGISTRATION_FILE);
+        if (!Files.exists(fingerprintFile)
+                || !Files.readString(fingerprintFile, StandardCharsets.UTF_8).trim().equals(fingerprint)) {
+            return false;
+        }
+        
+        if (os.contains("mac")) {
+            return Files.exists(getMacOSPlistPath());
+        } else if (os.contains("nix") || os.contains("nux")) {
+            return Files.exists(getLinuxApplicationsDirectory().resolve(LINUX_DESKTOP_FILE));
+        }
+        // Reading the registry back would cost as much as writing it
+        return true;
+    }
+    
+    /**
+     * Hashes everything a registration depends on.
+     */
+    private static String computeFingerprint(String os, List<String> launchCommand) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not available", e);
+        }
+        
+        String source = REGISTRATION_VERSION + "\n" + os + "\n" + String.join("\n", launchCommand);
+        return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    /**
+     * Gets the command that starts this application, without the link argument.
+     * 
+     * @return The command and its arguments, or null if it cannot be determined
+     */
+    private static List<String> getLaunchCommand() {
+        // Native launcher created by jpackage
+        String appPath = System.getProperty("jpackage.app-path");
+        if (appPath != null) {
+            return List.of(appPath);
+        }
+        
+        String javaBin = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + (System.getProperty("os.name").toLowerCase().contains("win") ? "java.exe" : "java");
+        
+        // Packaged jar
+        String codeSource = new File(ProtocolHandler.class.getProtectionDomain()
+                .getCodeSource().getLocation().getPath()).getPath();
+        if (codeSource.endsWith(".jar")) {
+            return List.of(javaBin, "-jar", codeSource);
+        }
+        
+        // Started as a module, e.g. by the JavaFX Maven plugin
+        String modulePath = System.getProperty("jdk.module.path");
+        String mainModule = System.getProperty("jdk.module.main");
+        String mainClass = System.getProperty("jdk.module.main.class");
+        if (modulePath != null && mainModule != null) {
+            return List.of(javaBin, "--module-path", modulePath, "--module",
+                    mainClass != null ? mainModule + "/" + mainClass : mainModule);
+        }
+        return null;
+    }
+    
+    /**
+     * Runs a registration command and waits for it to finish.
+     * 
+     * @param command The command and its arguments
+     * @return true if the command exited successfully
+     */
+    private static boolean runCommand(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!process.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            System.err.println("Timed out running: " + command.get(0));
+            return false;
+        }
+        return process.exitValue() == 0;
+    }
+    
+    /**
+     * Runs a command that may not be installed.
+     * 
+     * @param command The command and its arguments
+     * @return true if the command exists and exited successfully
+     */
+    private static boolean runOptionalCommand(List<String> command) throws InterruptedException {
+        try {
+            return runCommand(command);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Quotes an argument for the Exec key of a desktop entry.
+     */
+    private static String quoteDesktopExecArg(String arg) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : arg.toCharArray()) {
+            if (c == '"' || c == '`' || c == '$' || c == '\\') {
+                quoted.append('\\');
+            }
+            quoted.append(c);
         }
+        // Field codes start with %, so a literal one is doubled
+        return quoted.append('"').toString().replace("%", "%%");
+    }
+    
+    private static Path getMacOSPlistPath() {
+        return Paths.get(System.getProperty("user.home"), "Library", "Preferences", "uno-reset-handler.plist");
+    }
+    
+    private static Path getLinuxApplicationsDirectory() {
+        return getXdgDirectory("XDG_DATA_HOME", ".local/share").resolve("applications");
     }
     
     /**
-     * Registers the protocol on Linux.
+     * Resolves an XDG base directory, falling back to its default under the home directory.
      */
-    private static void registerLinux() {
-        // Linux protocol registration typically involves creating a .desktop file
-        System.err.println("Linux protocol registration not fully implemented");
+    private static Path getXdgDirectory(String variable, String defaultPath) {
+        String value = System.getenv(variable);
+        if (value != null && !value.isBlank()) {
+            return Paths.get(value);
+        }
+        return Paths.get(System.getProperty("user.home"), defaultPath);
     }
     
     /**
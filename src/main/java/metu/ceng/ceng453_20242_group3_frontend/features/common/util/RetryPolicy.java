@@ -0,0 +1,109 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Decides whether a failed request is sent again, and how long to wait first.
+ * The wait doubles with every attempt up to a limit, and half of it is random, so clients that
+ * failed together do not all come back at the same moment. A request that may have reached the
+ * backend is only repeated if the policy is for an idempotent call; otherwise only requests that
+ * never got a connection are sent again.
+ */
+public final class RetryPolicy {
+
+    // For calls that must not run twice, e.g. creating a game
+    public static final RetryPolicy UNSENT_ONLY = new RetryPolicy(AppConfig.HTTP_RETRY_MAX_ATTEMPTS,
+            AppConfig.HTTP_RETRY_BASE_DELAY_MS, AppConfig.HTTP_RETRY_MAX_DELAY_MS, false);
+
+    // For calls that have the same effect however often they run, e.g. reads
+    public static final RetryPolicy IDEMPOTENT = new RetryPolicy(AppConfig.HTTP_RETRY_MAX_ATTEMPTS,
+            AppConfig.HTTP_RETRY_BASE_DELAY_MS, AppConfig.HTTP_RETRY_MAX_DELAY_MS, true);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final boolean idempotent;
+
+    /**
+     * Creates a retry policy.
+     *
+     * @param maxAttempts The number of times a request is sent at most, including the first
+     * @param baseDelayMillis The wait before the second attempt, doubled for each one after it
+     * @param maxDelayMillis The longest wait between two attempts
+     * @param idempotent Whether requests that may have reached the backend can be sent again
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, boolean idempotent) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Decides whether to send a request again after a failed attempt.
+     *
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @param error The error the attempt failed with, or null if a response was received
+     * @param response The response, or null if the attempt failed with an error
+     * @return true if the request should be sent again
+     */
+    public boolean shouldRetry(int attempt, Throwable error, HttpResponse<?> response) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        if (error != null) {
+            return isUnsent(error) || (idempotent && HttpClientManager.isNetworkError(error));
+        }
+        int statusCode = response.statusCode();
+        if (statusCode == 503 && response.headers().firstValue("Retry-After").isPresent()) {
+            // The backend says it did not handle the request
+            return true;
+        }
+        return idempotent && HttpClientManager.isServerFailure(statusCode);
+    }
+
+    /**
+     * Gets the wait before the next attempt. A Retry-After header in seconds is honoured,
+     * up to the maximum wait.
+     *
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @param response The response, or null if the attempt failed with an error
+     * @return The wait in milliseconds
+     */
+    public long getDelayMillis(int attempt, HttpResponse<?> response) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+
+        if (response != null) {
+            String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+            if (retryAfter != null) {
+                try {
+                    delay = Math.max(delay, Math.min(maxDelayMillis, Long.parseLong(retryAfter.trim()) * 1000));
+                } catch (NumberFormatException e) {
+                    // An HTTP date, keep the computed wait
+                }
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Checks whether a request failed before it could reach the backend.
+     *
+     * @param error The error the request failed with
+     * @return true if no connection was made
+     */
+    private static boolean isUnsent(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
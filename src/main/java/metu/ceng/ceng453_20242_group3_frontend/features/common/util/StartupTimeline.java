@@ -0,0 +1,347 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Records how long each phase of application startup takes, from {@code main} to the first frame
+ * the user can interact with.
+ * Times are measured with {@link System#nanoTime()} relative to the moment this class is first
+ * used, which is the first line of {@code main}. When startup is finished, the timeline is written
+ * as a JSON report and appended as one line to a CSV history, so cold and warm starts can be
+ * compared between releases. Every phase and milestone is also emitted as a JFR event, which costs
+ * nothing unless a recording is running, e.g. with {@code -XX:StartFlightRecording}.
+ * The report location can be overridden with the "uno.startupReport" system property ("-" prints
+ * it instead), and runs can be tagged with "uno.startupLabel", e.g. "cold" or "warm".
+ */
+public final class StartupTimeline {
+
+    // File in the report directory that gets one line per launch
+    private static final String HISTORY_FILE = "startup-history.csv";
+    private static final String HISTORY_HEADER =
+            "timestamp,version,label,javaVersion,appCds,jvmStartToMainMs,firstFrameMs,firstInteractiveMs";
+
+    // Names of the JSON reports, one per launch
+    private static final String REPORT_PREFIX = "startup-";
+    private static final String REPORT_SUFFIX = ".json";
+    private static final DateTimeFormatter REPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private static StartupTimeline instance;
+
+    // Monotonic time and wall clock time of the origin, taken together
+    private final long originNanos = System.nanoTime();
+    private final long originEpochMillis = System.currentTimeMillis();
+
+    private final List<Map<String, Object>> phases = new ArrayList<>();
+    private final List<Map<String, Object>> milestones = new ArrayList<>();
+
+    private boolean finished = false;
+
+    /**
+     * A phase that is being timed. Closing it records its duration.
+     */
+    public final class Phase implements AutoCloseable {
+        private final String name;
+        private final long startNanos;
+        private final StartupPhaseEvent event;
+        private boolean ended = false;
+
+        private Phase(String name) {
+            this.name = name;
+            this.event = new StartupPhaseEvent();
+            this.event.phase = name;
+            this.event.begin();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase. Ending it again has no effect.
+         */
+        @Override
+        public void close() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            long endNanos = System.nanoTime();
+            event.offset = startNanos - originNanos;
+            event.commit();
+            recordPhase(name, startNanos, endNanos);
+        }
+    }
+
+    /**
+     * JFR event for a startup phase; milestones are events without a duration.
+     */
+    @Name("metu.ceng.uno.StartupPhase")
+    @Label("Startup Phase")
+    @Category({"UNO", "Startup"})
+    @Description("A phase or milestone of application startup")
+    static class StartupPhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Offset")
+        @Description("Time since main was entered")
+        @Timespan(Timespan.NANOSECONDS)
+        long offset;
+    }
+
+    // Private constructor for singleton pattern
+    private StartupTimeline() {
+    }
+
+    // Get singleton instance
+    public static synchronized StartupTimeline getInstance() {
+        if (instance == null) {
+            instance = new StartupTimeline();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts timing a phase. Use with try-with-resources, or close the phase when it ends.
+     *
+     * @param name The phase name, e.g. "start.icon"
+     * @return The running phase
+     */
+    public Phase begin(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * Records that a point of startup has been reached.
+     *
+     * @param name The milestone name, e.g. "firstFrame"
+     */
+    public void mark(String name) {
+        long nowNanos = System.nanoTime();
+
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.phase = name;
+        event.offset = nowNanos - originNanos;
+        event.commit();
+
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            Map<String, Object> milestone = new LinkedHashMap<>();
+            milestone.put("name", name);
+            milestone.put("atMs", toMillis(nowNanos - originNanos));
+            milestone.put("thread", Thread.currentThread().getName());
+            milestones.add(milestone);
+        }
+    }
+
+    /**
+     * Ends the timeline and writes the report on a background thread, so the first interactive
+     * frame is not delayed by serialization. Phases and milestones recorded later are only
+     * emitted as JFR events. Calling this again has no effect.
+     */
+    public void finish() {
+        Map<String, Object> report;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            report = buildReport();
+        }
+
+        Thread writer = new Thread(() -> writeReport(report), "startup-report");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private synchronized void recordPhase(String name, long startNanos, long endNanos) {
+        if (finished) {
+            return;
+        }
+        Map<String, Object> phase = new LinkedHashMap<>();
+        phase.put("name", name);
+        phase.put("startMs", toMillis(startNanos - originNanos));
+        phase.put("durationMs", toMillis(endNanos - startNanos));
+        phase.put("thread", Thread.currentThread().getName());
+        phases.add(phase);
+    }
+
+    /**
+     * Builds the report. Must be called while holding the lock.
+     *
+     * @return The report as nested maps, ready for JSON serialization
+     */
+    private Map<String, Object> buildReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.ofEpochMilli(originEpochMillis).toString());
+        report.put("version", getVersion());
+        report.put("label", System.getProperty("uno.startupLabel", ""));
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("javafxVersion", System.getProperty("javafx.runtime.version"));
+        report.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        report.put("jvmStartToMainMs", getJvmStartToMainMillis());
+        report.put("classDataSharing", System.getProperty("java.vm.info", "").contains("sharing"));
+        report.put("milestones", new ArrayList<>(milestones));
+        report.put("phases", new ArrayList<>(phases));
+        return report;
+    }
+
+    private void writeReport(Map<String, Object> report) {
+        // Looked up here, since the management classes take a while to load
+        report.put("appCdsArchive", getAppCdsArchive());
+
+        String output = System.getProperty("uno.startupReport");
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            if ("-".equals(output)) {
+                System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+                return;
+            }
+
+            Path reportDir = Paths.get(AppConfig.STARTUP_REPORT_DIRECTORY);
+            Files.createDirectories(reportDir);
+
+            Path reportPath;
+            if (output != null) {
+                reportPath = Paths.get(output);
+                if (reportPath.getParent() != null) {
+                    Files.createDirectories(reportPath.getParent());
+                }
+            } else {
+                // Milliseconds and the process ID keep launches close together from overwriting each other
+                String timestamp = LocalDateTime.now().format(REPORT_TIMESTAMP);
+                reportPath = reportDir.resolve(REPORT_PREFIX + timestamp + "-" + ProcessHandle.current().pid() + REPORT_SUFFIX);
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+            appendHistory(reportDir.resolve(HISTORY_FILE), report);
+            if (output == null) {
+                pruneReports(reportDir);
+            }
+
+            System.out.println(String.format("Startup: first frame at %s ms, interactive at %s ms (report: %s)",
+                    findMilestone(report, "firstFrame"), findMilestone(report, "firstInteractive"),
+                    reportPath.toAbsolutePath()));
+        } catch (IOException e) {
+            System.err.println("Could not write startup report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the oldest reports beyond the number kept. The history keeps a line for each of them.
+     */
+    private void pruneReports(Path reportDir) {
+        List<Path> reports = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(reportDir, REPORT_PREFIX + "*" + REPORT_SUFFIX)) {
+            stream.forEach(reports::add);
+            if (reports.size() <= AppConfig.STARTUP_REPORTS_KEPT) {
+                return;
+            }
+
+            // The names start with the timestamp, so they sort oldest first
+            reports.sort(null);
+            for (Path report : reports.subList(0, reports.size() - AppConfig.STARTUP_REPORTS_KEPT)) {
+                Files.deleteIfExists(report);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not delete old startup reports: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends one line per launch, so regressions show up without opening every report.
+     */
+    private void appendHistory(Path historyPath, Map<String, Object> report) throws IOException {
+        boolean newFile = !Files.exists(historyPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(historyPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (newFile) {
+                writer.write(HISTORY_HEADER);
+                writer.newLine();
+            }
+            writer.write(String.join(",",
+                    String.valueOf(report.get("timestamp")),
+                    String.valueOf(report.get("version")),
+                    String.valueOf(report.get("label")).replace(',', ' '),
+                    String.valueOf(report.get("javaVersion")),
+                    String.valueOf(!report.get("appCdsArchive").toString().isEmpty()),
+                    String.valueOf(report.get("jvmStartToMainMs")),
+                    String.valueOf(findMilestone(report, "firstFrame")),
+                    String.valueOf(findMilestone(report, "firstInteractive"))));
+            writer.newLine();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object findMilestone(Map<String, Object> report, String name) {
+        for (Map<String, Object> milestone : (List<Map<String, Object>>) report.get("milestones")) {
+            if (name.equals(milestone.get("name"))) {
+                return milestone.get("atMs");
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Measures the time the JVM spent before the timeline started, mostly class loading and
+     * module resolution. Uses the process start time, so it does not load the management classes.
+     *
+     * @return The time in milliseconds, or -1 if the start time is not available
+     */
+    private long getJvmStartToMainMillis() {
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.ofEpochMilli(originEpochMillis)).toMillis())
+                .orElse(-1L);
+    }
+
+    /**
+     * Gets the AppCDS archive the JVM was started with. The JVM keeps running without it when the
+     * file is missing or does not match, which is reported as sharing being off.
+     *
+     * @return The archive path, or an empty string if no application archive is in use
+     */
+    private static String getAppCdsArchive() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            String archive = hotSpot.getVMOption("SharedArchiveFile").getValue();
+            boolean sharing = System.getProperty("java.vm.info", "").contains("sharing");
+            return sharing && Files.exists(Paths.get(archive)) ? archive : "";
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private static String getVersion() {
+        String version = StartupTimeline.class.getPackage().getImplementationVersion();
+        return System.getProperty("uno.version", version != null ? version : "dev");
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
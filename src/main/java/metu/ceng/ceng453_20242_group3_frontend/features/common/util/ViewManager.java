@@ -0,0 +1,345 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Shows the application's views on a single long-lived scene.
+ * Navigating swaps the scene root instead of creating a new scene, and parsed views are kept in a
+ * small least-recently-used cache so returning to a screen does not parse its FXML again. Views the
+ * user is likely to open next can be parsed ahead of time on a background thread.
+ * Views holding form input or game state are never reused: a preloaded copy of them is shown once
+ * and then dropped, so the next visit starts from a fresh instance.
+ */
+public class ViewManager {
+
+    /**
+     * The views the application navigates between.
+     */
+    public enum View {
+        LOGIN("login-view.fxml", false, true),
+        REGISTER("register-view.fxml", false, true),
+        // These two play their fade-in while they are initialized
+        FORGOT_PASSWORD("forgot-password-view.fxml", false, false),
+        RESET_PASSWORD("reset-password-view.fxml", false, false),
+        MAIN_MENU("main-menu-view.fxml", true, true),
+        GAME_MODE("game-mode-view.fxml", true, true),
+        LEADERBOARD("leaderboard-view.fxml", true, true),
+        // Its controller creates animations and registers with the shared animation services
+        GAME("game-view.fxml", false, false);
+
+        private final String fxmlFile;
+        private final boolean reusable;
+        private final boolean backgroundLoadable;
+
+        View(String fxmlFile, boolean reusable, boolean backgroundLoadable) {
+            this.fxmlFile = fxmlFile;
+            this.reusable = reusable;
+            this.backgroundLoadable = backgroundLoadable;
+        }
+
+        /**
+         * Checks whether one parsed instance of this view can be shown again and again.
+         *
+         * @return true if the view is kept in the cache
+         */
+        public boolean isReusable() {
+            return reusable;
+        }
+    }
+
+    /**
+     * Implemented by controllers that refresh their content each time their view is shown,
+     * since a cached view is not initialized again.
+     */
+    public interface ShowListener {
+        void onViewShown();
+    }
+
+    private static final String VIEW_PATH = "/metu/ceng/ceng453_20242_group3_frontend/";
+    private static final String STYLESHEET = VIEW_PATH + "css/imports.css";
+    private static final Duration FADE_DURATION = Duration.millis(300);
+
+    /**
+     * A parsed view and its controller.
+     */
+    private static final class LoadedView {
+        private final Parent root;
+        private final Object controller;
+
+        private LoadedView(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
+
+    private static ViewManager instance;
+
+    // Reusable views, least recently shown first
+    private final Map<View, LoadedView> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<View, LoadedView> eldest) {
+            return size() > AppConfig.VIEW_CACHE_SIZE;
+        }
+    };
+
+    // Preloaded single-use views waiting to be shown
+    private final Map<View, LoadedView> prepared = new EnumMap<>(View.class);
+
+    // Views currently being parsed
+    private final Set<View> pending = EnumSet.noneOf(View.class);
+
+    // Views that must be parsed on the JavaFX thread, waiting for the current transition to end
+    private final Queue<View> deferred = new ArrayDeque<>();
+
+    // One background thread, so preloading never competes with itself for the CPU
+    private final ExecutorService preloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FadeTransition fadeIn = new FadeTransition(FADE_DURATION);
+
+    private Stage stage;
+    private Scene scene;
+    private View currentView;
+
+    // Incremented by clear(), so preloads started before it are discarded
+    private int generation = 0;
+
+    // Private constructor for singleton pattern
+    private ViewManager() {
+        fadeIn.setFromValue(0.0);
+        fadeIn.setToValue(1.0);
+        fadeIn.setOnFinished(e -> loadDeferred());
+    }
+
+    // Get singleton instance
+    public static ViewManager getInstance() {
+        if (instance == null) {
+            instance = new ViewManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the scene every view is shown on and sets it on the stage.
+     *
+     * @param stage The primary stage
+     */
+    public void attach(Stage stage) {
+        this.stage = stage;
+        this.scene = new Scene(new StackPane(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
+
+        URL cssUrl = getClass().getResource(STYLESHEET);
+        if (cssUrl != null) {
+            scene.getStylesheets().add(cssUrl.toExternalForm());
+        } else {
+            System.out.println("WARNING: CSS styling not found");
+        }
+
+        // Keyboard shortcuts for full screen mode, shared by every view
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F11) {
+                stage.setFullScreen(!stage.isFullScreen());
+            } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
+                stage.setFullScreen(!stage.isFullScreen());
+            }
+        });
+
+        stage.setScene(scene);
+    }
+
+    /**
+     * Gets the stage the views are shown on.
+     *
+     * @return The primary stage
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Gets the scene the views are shown on.
+     *
+     * @return The shared scene
+     */
+    public Scene getScene() {
+        return scene;
+    }
+
+    /**
+     * Shows a view, taking it from the cache or a finished preload when possible and parsing
+     * it otherwise. Must be called on the JavaFX application thread.
+     *
+     * @param view The view to show
+     * @return The view's controller
+     * @throws IOException If the view had to be parsed and could not be
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T show(View view) throws IOException {
+        long startNanos = System.nanoTime();
+
+        LoadedView loaded = view.isReusable() ? cache.get(view) : prepared.remove(view);
+        boolean parsed = loaded == null;
+        if (parsed) {
+            loaded = load(view);
+        }
+        if (view.isReusable()) {
+            cache.put(view, loaded);
+        }
+
+        currentView = view;
+        fadeIn.stop();
+        loaded.root.setOpacity(0.0);
+        scene.setRoot(loaded.root);
+        fadeIn.setNode(loaded.root);
+        fadeIn.playFromStart();
+
+        if (loaded.controller instanceof ShowListener) {
+            ((ShowListener) loaded.controller).onViewShown();
+        }
+
+        System.out.println(String.format("Showing %s (%s) in %.1f ms", view,
+                parsed ? "parsed" : "preloaded", (System.nanoTime() - startNanos) / 1_000_000.0));
+        return (T) loaded.controller;
+    }
+
+    /**
+     * Parses views on the background thread so that showing them later only swaps the root.
+     * Views that cannot be parsed off the JavaFX thread are parsed on it once the current
+     * transition has finished, one at a time. Views that are already cached, preloaded or being
+     * parsed are skipped. Must be called on the JavaFX application thread; the parsed views are
+     * handed back to it when ready.
+     *
+     * @param views The views to preload
+     */
+    public void preload(View... views) {
+        for (View view : views) {
+            boolean ready = view.isReusable() ? cache.containsKey(view) : prepared.containsKey(view);
+            if (ready || view == currentView || !pending.add(view)) {
+                continue;
+            }
+
+            if (!view.backgroundLoadable) {
+                deferred.add(view);
+                continue;
+            }
+
+            int requestGeneration = generation;
+            CompletableFuture.supplyAsync(() -> {
+                try {
+                    return load(view);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, preloader).whenComplete((loaded, error) -> Platform.runLater(() -> {
+                pending.remove(view);
+                if (error != null) {
+                    // Not fatal: the view is parsed when it is shown instead
+                    System.err.println("Could not preload " + view + ": " + error.getMessage());
+                    return;
+                }
+                if (requestGeneration != generation) {
+                    return;
+                }
+                store(view, loaded);
+            }));
+        }
+
+        if (fadeIn.getStatus() != Animation.Status.RUNNING) {
+            loadDeferred();
+        }
+    }
+
+    /**
+     * Drops every cached and preloaded view, e.g. when the user logs out so that nothing built
+     * for one user is shown to the next. The current view stays on screen.
+     */
+    public void clear() {
+        generation++;
+        cache.clear();
+        prepared.clear();
+        deferred.forEach(pending::remove);
+        deferred.clear();
+    }
+
+    /**
+     * Parses the next view that has to be parsed on the JavaFX thread in a separate runnable, so
+     * the event that triggered it is not delayed, and continues with the rest one at a time.
+     */
+    private void loadDeferred() {
+        if (deferred.isEmpty()) {
+            return;
+        }
+
+        int requestGeneration = generation;
+        Platform.runLater(() -> {
+            View view = requestGeneration == generation ? deferred.poll() : null;
+            if (view == null) {
+                return;
+            }
+            pending.remove(view);
+            try {
+                store(view, load(view));
+            } catch (IOException e) {
+                // Not fatal: the view is parsed when it is shown instead
+                System.err.println("Could not preload " + view + ": " + e.getMessage());
+            }
+            loadDeferred();
+        });
+    }
+
+    /**
+     * Keeps a preloaded view until it is shown, unless one is already there.
+     *
+     * @param view The view
+     * @param loaded The parsed view
+     */
+    private void store(View view, LoadedView loaded) {
+        if (view.isReusable()) {
+            cache.putIfAbsent(view, loaded);
+        } else {
+            prepared.putIfAbsent(view, loaded);
+        }
+    }
+
+    /**
+     * Parses a view's FXML. Safe to call from any thread for views whose controllers do not need
+     * the JavaFX thread while they are initialized.
+     *
+     * @param view The view to parse
+     * @return The parsed view
+     * @throws IOException If the FXML could not be loaded
+     */
+    private LoadedView load(View view) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(VIEW_PATH + view.fxmlFile));
+        Parent root = loader.load();
+        return new LoadedView(root, loader.getController());
+    }
+}
@@ -1,6 +1,5 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
 
-import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
@@ -13,6 +12,7 @@ import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.ComputerAIPlayer;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Game;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Player;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationClock;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.view.NotificationManager;
 
 /**
@@ -99,8 +99,7 @@ public class AIPlayerController {
         
         if (currentPlayerIndex > 0 && currentPlayer != null && currentPlayer.isAI()) {
             // Create a delay so AI doesn't play immediately - reduced from 5000ms to 3000ms
-            PauseTransition pause = new PauseTransition(Duration.millis(3000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(3000), () -> {
                 int aiIndex = currentPlayerIndex;
                 // Make sure it's still the same AI's turn after the delay
                 if (game.getCurrentPlayerIndex() == aiIndex) {
@@ -108,7 +107,6 @@ public class AIPlayerController {
                     simpleAITurn(aiIndex);
                 }
             });
-            pause.play();
         }
     }
 
@@ -144,16 +142,13 @@ public class AIPlayerController {
                 
                 // Play the card with a delay - reduced from 2000ms to 1000ms
                 final Card selectedCard = drawTwoCard;
-                PauseTransition pause = new PauseTransition(Duration.millis(1000));
-                pause.setOnFinished(e -> playAICard(aiIndex, selectedCard));
-                pause.play();
+                AnimationClock.getInstance().schedule(Duration.millis(1000), () -> playAICard(aiIndex, selectedCard));
                 return;
             }
             
             // If no Draw Two card available, AI will draw the stacked cards
             System.out.println("AI has no Draw Two to respond with, will draw stacked cards");
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> {
                 // Draw cards without advancing turn - will handle the accumulated stack
                 Card drawnCard = game.drawCardWithoutAdvancingTurn();
                 
@@ -169,7 +164,6 @@ public class AIPlayerController {
                     handleAITurns();
                 }
             });
-            pause.play();
             return;
         }
         
@@ -178,8 +172,7 @@ public class AIPlayerController {
         if (aiInstance.shouldDraw(aiPlayer.getHand())) {
             System.out.println("AI has no playable cards, will draw a card");
             
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> {
                 // Draw a card without advancing turn
                 Card drawnCard = game.drawCardWithoutAdvancingTurn();
                 System.out.println("AI drew: " + (drawnCard != null ? drawnCard.toString() : "null"));
@@ -187,7 +180,6 @@ public class AIPlayerController {
                 // Handle the drawn card
                 handleAIDrawnCard(aiIndex, drawnCard);
             });
-            pause.play();
             return;
         }
         
@@ -199,23 +191,19 @@ public class AIPlayerController {
             System.out.println("AI found a playable card: " + cardToPlay);
             // Play the card with reduced delay - from 2000ms to 1000ms
             final Card selectedCard = cardToPlay;
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> playAICard(aiIndex, selectedCard));
-            pause.play();
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> playAICard(aiIndex, selectedCard));
         } else {
             // No playable card found, draw instead
             System.out.println("AI found no playable cards, drawing a card...");
             
             // Draw a card without advancing turn - reduced delay from 2000ms to 1000ms
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> {
                 Card drawnCard = game.drawCardWithoutAdvancingTurn();
                 System.out.println("AI drew: " + (drawnCard != null ? drawnCard.toString() : "null"));
                 
                 // Handle the drawn card
                 handleAIDrawnCard(aiIndex, drawnCard);
             });
-            pause.play();
         }
     }
 
@@ -258,15 +246,13 @@ public class AIPlayerController {
             System.out.println("ERROR: Attempting to play an unplayable card: " + card + ". Drawing instead.");
             
             // Draw a card instead - reduced from 2000ms to 1000ms
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> {
                 Card drawnCard = game.drawCardWithoutAdvancingTurn();
                 System.out.println("AI drew: " + (drawnCard != null ? drawnCard.toString() : "null"));
                 
                 // Handle the drawn card
                 handleAIDrawnCard(aiIndex, drawnCard);
             });
-            pause.play();
             return;
         }
         
@@ -314,9 +300,7 @@ public class AIPlayerController {
             // to ensure the UI gets updated to show the drawn cards
             if (card.getAction() == CardAction.DRAW_TWO || card.getAction() == CardAction.WILD_DRAW_FOUR) {
                 // Reduced delay from 500ms to 300ms 
-                PauseTransition updateDelay = new PauseTransition(Duration.millis(300));
-                updateDelay.setOnFinished(e -> cardPlayCallback.onCardPlayed(aiIndex, card));
-                updateDelay.play();
+                AnimationClock.getInstance().schedule(Duration.millis(300), () -> cardPlayCallback.onCardPlayed(aiIndex, card));
             } else {
                 // Notify card played immediately for other card types
                 cardPlayCallback.onCardPlayed(aiIndex, card);
@@ -339,15 +323,13 @@ public class AIPlayerController {
             System.out.println("AI failed to play card: " + card);
             
             // If play failed, try drawing instead - reduced from 2000ms to 1000ms
-            PauseTransition pause = new PauseTransition(Duration.millis(1000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(1000), () -> {
                 Card drawnCard = game.drawCardWithoutAdvancingTurn();
                 System.out.println("AI drew: " + (drawnCard != null ? drawnCard.toString() : "null"));
                 
                 // Handle the drawn card
                 handleAIDrawnCard(aiIndex, drawnCard);
             });
-            pause.play();
         }
     }
 
@@ -410,17 +392,13 @@ public class AIPlayerController {
             notificationManager.showActionNotification(aiPlayer.getName(), "drew a card and can play it");
             
             // Use a shorter delay before playing the drawn card - reduced from 3500ms to 2000ms
-            PauseTransition pause = new PauseTransition(Duration.millis(2000));
-            pause.setOnFinished(e -> {
+            AnimationClock.getInstance().schedule(Duration.millis(2000), () -> {
                 // Show another notification when the AI actually plays the card
                 notificationManager.showActionNotification(aiPlayer.getName(), "plays drawn card: " + drawnCard.toString());
                 
                 // Add a smaller delay after the notification before playing the card - reduced from 1000ms to 500ms
-                PauseTransition playDelay = new PauseTransition(Duration.millis(500));
-                playDelay.setOnFinished(event -> playAICard(aiIndex, drawnCard));
-                playDelay.play();
+                AnimationClock.getInstance().schedule(Duration.millis(500), () -> playAICard(aiIndex, drawnCard));
             });
-            pause.play();
         } else {
             System.out.println("AI drew a card that is not playable. Passing turn.");
             
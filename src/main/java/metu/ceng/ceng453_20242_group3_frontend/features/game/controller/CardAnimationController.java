@@ -1,72 +1,126 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
 
+import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.RotateTransition;
+import javafx.animation.ScaleTransition;
 import javafx.animation.TranslateTransition;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
+import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Card;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationClock;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationTracker;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.view.CardRenderer;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.GameViewRegistry;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.QualityGovernor;
 
 /**
  * Handles card animations during gameplay.
+ * Flying cards, their card faces and the transitions that move them are pooled
+ * and reused, so bursts of plays and draws do not allocate new nodes and timelines.
  */
 public class CardAnimationController {
-    
+
+    // Animation timings
+    private static final Duration PLAY_DURATION = Duration.millis(300);
+    private static final Duration DRAW_DURATION = Duration.millis(300);
+    private static final Duration DRAWN_CARD_PULSE_DURATION = Duration.millis(500);
+
+    // Number of idle flights kept around for reuse
+    private static final int MAX_IDLE_FLIGHTS = 4;
+
+    // Number of card faces kept around for reuse
+    private static final int MAX_CACHED_FACES = 16;
+
     private final Pane gamePane;
     private final StackPane discardPileContainer;
-    
+
+    // Pools of idle animations ready to be reused
+    private final Deque<CardFlight> idleFlights = new ArrayDeque<>();
+    private final Deque<DrawAnimation> idleDrawAnimations = new ArrayDeque<>();
+
+    // Recently used card faces, keyed by everything a face shows: the card (color, type, action and
+    // value), whether it was drawn as playable and the quality level its effects were chosen for
+    private final Map<List<Object>, StackPane> cardFaces = new LinkedHashMap<>(MAX_CACHED_FACES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, StackPane> eldest) {
+            return size() > MAX_CACHED_FACES;
+        }
+    };
+
+    // Single pulse used to highlight a freshly drawn playable card
+    private final ScaleTransition drawnCardPulse = new ScaleTransition(DRAWN_CARD_PULSE_DURATION);
+
     /**
      * Interface for animation completion callbacks
      */
     public interface AnimationCallback {
         void onAnimationComplete();
     }
-    
+
     /**
      * Creates a new card animation controller.
-     * 
-     * @param gamePane The main game pane
-     * @param discardPileContainer The discard pile container
+     *
+     * @param viewRegistry The registry holding the game pane and discard pile container
      */
-    public CardAnimationController(Pane gamePane, StackPane discardPileContainer) {
-        this.gamePane = gamePane;
-        this.discardPileContainer = discardPileContainer;
+    public CardAnimationController(GameViewRegistry viewRegistry) {
+        this.gamePane = viewRegistry.getGamePane();
+        this.discardPileContainer = viewRegistry.getDiscardPileContainer();
+
+        drawnCardPulse.setFromX(1.0);
+        drawnCardPulse.setFromY(1.0);
+        drawnCardPulse.setToX(1.2);
+        drawnCardPulse.setToY(1.2);
+        drawnCardPulse.setCycleCount(3);
+        drawnCardPulse.setAutoReverse(true);
+        AnimationTracker.track(drawnCardPulse);
     }
-    
+
     /**
      * Creates a card view at the specified position and animates it to the discard pile.
-     * 
+     *
      * @param card The card model to animate
      * @param sourceX The starting X position
      * @param sourceY The starting Y position
      * @param callback Callback to run when animation completes
      */
     public void animateCardFromPosition(Card card, double sourceX, double sourceY, AnimationCallback callback) {
-        // Create card view
-        StackPane cardView = CardRenderer.createCardView(card);
-        
-        // Add to game pane for animation
-        gamePane.getChildren().add(cardView);
+        // In instant mode the card goes straight to the discard pile
+        if (AnimationClock.getInstance().isInstant()) {
+            if (callback != null) {
+                callback.onAnimationComplete();
+            }
+            return;
+        }
         
+        CardFlight flight = acquireFlight();
+        flight.setFace(acquireCardFace(card));
+
         // Convert from scene coordinates to gamePane coordinates
         Point2D cardPosInGamePane = gamePane.sceneToLocal(sourceX, sourceY);
-        
+
         // Position at the starting location
-        cardView.setLayoutX(cardPosInGamePane.getX());
-        cardView.setLayoutY(cardPosInGamePane.getY());
-        
+        flight.host.setLayoutX(cardPosInGamePane.getX());
+        flight.host.setLayoutY(cardPosInGamePane.getY());
+
         // Animate to discard pile
-        animateCardToDiscardPile(cardView, callback);
+        animateCardToDiscardPile(flight, callback);
     }
-    
+
     /**
      * Animates a card from its current position to the discard pile.
-     * 
+     *
      * @param sourceNode The source node to get position from
      * @param card The card model to animate
      * @param callback Callback to run when animation completes
@@ -74,7 +128,7 @@ public class CardAnimationController {
     public void animateCardFromNode(Pane sourceNode, Card card, AnimationCallback callback) {
         double originalX = 0;
         double originalY = 0;
-        
+
         try {
             // Convert the source node's position to scene coordinates
             Bounds nodeBounds = sourceNode.localToScene(sourceNode.getBoundsInLocal());
@@ -83,57 +137,225 @@ public class CardAnimationController {
         } catch (Exception e) {
             System.out.println("Warning: Could not get original node position");
         }
-        
+
         // Animate from the obtained position
         animateCardFromPosition(card, originalX, originalY, callback);
     }
-    
+
+    /**
+     * Animates a card that has just been added to a hand, fading and sliding it into place.
+     *
+     * @param cardView The card view already added to the hand container
+     * @param callback Callback to run when animation completes
+     */
+    public void animateCardIntoHand(Node cardView, AnimationCallback callback) {
+        if (AnimationClock.getInstance().isInstant()) {
+            cardView.setOpacity(1);
+            cardView.setTranslateY(0);
+            if (callback != null) {
+                callback.onAnimationComplete();
+            }
+            return;
+        }
+        
+        DrawAnimation drawAnimation = idleDrawAnimations.poll();
+        if (drawAnimation == null) {
+            drawAnimation = new DrawAnimation();
+        }
+
+        cardView.setOpacity(0);
+        cardView.setTranslateY(-20);
+        drawAnimation.play(cardView, callback);
+    }
+
+    /**
+     * Pulses a freshly drawn card to show that it can be played right away.
+     * Only one drawn card is highlighted at a time, so a single transition is reused.
+     *
+     * @param cardView The drawn card view
+     */
+    public void pulseDrawnCard(Node cardView) {
+        drawnCardPulse.stop();
+        if (drawnCardPulse.getNode() != null && drawnCardPulse.getNode() != cardView) {
+            drawnCardPulse.getNode().setScaleX(1.0);
+            drawnCardPulse.getNode().setScaleY(1.0);
+        }
+        if (AnimationClock.getInstance().isInstant()) {
+            return;
+        }
+        drawnCardPulse.setNode(cardView);
+        AnimationClock.getInstance().applyRate(drawnCardPulse, 1.0).playFromStart();
+    }
+
     /**
      * Animates a card moving to the discard pile.
-     * 
-     * @param cardView The card view to animate
+     *
+     * @param flight The flight carrying the card face
      * @param callback Callback to run when animation completes
      */
-    private void animateCardToDiscardPile(StackPane cardView, AnimationCallback callback) {
+    private void animateCardToDiscardPile(CardFlight flight, AnimationCallback callback) {
         // Calculate the target position (discard pile's center)
         // Convert discard pile position to scene coordinates
         Bounds discardBounds = discardPileContainer.localToScene(discardPileContainer.getBoundsInLocal());
         double discardCenterX = discardBounds.getMinX() + discardBounds.getWidth()/2;
         double discardCenterY = discardBounds.getMinY() + discardBounds.getHeight()/2;
-        
+
         // Convert from scene coordinates to gamePane coordinates
         Point2D targetPoint = gamePane.sceneToLocal(discardCenterX, discardCenterY);
-        
+
         // Calculate the offset needed to center the card
-        double cardWidth = cardView.getBoundsInLocal().getWidth();
-        double cardHeight = cardView.getBoundsInLocal().getHeight();
-        
+        StackPane host = flight.host;
+        double cardWidth = host.getBoundsInLocal().getWidth();
+        double cardHeight = host.getBoundsInLocal().getHeight();
+
         double targetX = targetPoint.getX() - cardWidth/2;
         double targetY = targetPoint.getY() - cardHeight/2;
+
+        flight.move.setToX(targetX - host.getLayoutX());
+        flight.move.setToY(targetY - host.getLayoutY());
         
-        // Create the animations
-        TranslateTransition moveCard = new TranslateTransition(Duration.millis(300), cardView);
-        moveCard.setToX(targetX - cardView.getLayoutX());
-        moveCard.setToY(targetY - cardView.getLayoutY());
-        
-        RotateTransition rotateCard = new RotateTransition(Duration.millis(300), cardView);
-        rotateCard.setToAngle(-5 + (Math.random() * 10)); // Random angle for natural look
-        
-        // Play both animations in parallel
-        ParallelTransition animation = new ParallelTransition(moveCard, rotateCard);
-        
-        // When animation completes, update the UI
-        animation.setOnFinished(e -> {
-            // Remove the animated card
-            gamePane.getChildren().remove(cardView);
-            
-            // Execute callback
-            if (callback != null) {
-                callback.onAnimationComplete();
-            }
-        });
-        
-        // Start the animation
-        animation.play();
+        // Random angle for natural look, skipped when rendering quality is reduced
+        QualityGovernor.QualityLevel quality = QualityGovernor.getInstance().getLevel();
+        flight.rotate.setToAngle(quality.hasFlightRotation() ? -5 + (Math.random() * 10) : 0);
+        AnimationClock.getInstance().applyRate(flight.animation, quality.getTransitionRate());
+
+        flight.play(callback);
+    }
+
+    /**
+     * Takes an idle flight from the pool, creating a new one if the pool is empty.
+     *
+     * @return A flight attached to the game pane and ready to be positioned
+     */
+    private CardFlight acquireFlight() {
+        CardFlight flight = idleFlights.poll();
+        if (flight == null) {
+            flight = new CardFlight();
+        }
+
+        if (flight.host.getParent() != gamePane) {
+            gamePane.getChildren().add(flight.host);
+        }
+
+        flight.host.toFront();
+        return flight;
+    }
+
+    /**
+     * Returns a flight to the pool once its animation has finished.
+     * Flights beyond the pool size are detached so they can be collected.
+     *
+     * @param flight The flight to release
+     */
+    private void releaseFlight(CardFlight flight) {
+        flight.host.setVisible(false);
+        flight.host.getChildren().clear();
+
+        if (idleFlights.size() < MAX_IDLE_FLIGHTS) {
+            idleFlights.push(flight);
+        } else {
+            gamePane.getChildren().remove(flight.host);
+        }
+    }
+
+    /**
+     * Gets a card face for the given card, reusing a cached one when it is not already on screen.
+     *
+     * @param card The card model
+     * @return A card face that has no parent
+     */
+    private StackPane acquireCardFace(Card card) {
+        List<Object> key = List.of(card, card.isPlayable(), QualityGovernor.getInstance().getLevel());
+        StackPane face = cardFaces.get(key);
+        if (face != null && face.getParent() == null) {
+            return face;
+        }
+
+        face = CardRenderer.createCardView(card);
+        if (!cardFaces.containsKey(key)) {
+            cardFaces.put(key, face);
+        }
+        return face;
+    }
+
+    /**
+     * A reusable flying card: a host node plus the transitions that move it.
+     */
+    private final class CardFlight {
+        private final StackPane host = new StackPane();
+        private final TranslateTransition move = new TranslateTransition(PLAY_DURATION, host);
+        private final RotateTransition rotate = new RotateTransition(PLAY_DURATION, host);
+        private final ParallelTransition animation = new ParallelTransition(move, rotate);
+        private AnimationCallback callback;
+
+        private CardFlight() {
+            host.setMouseTransparent(true);
+            AnimationTracker.track(animation);
+
+            // When animation completes, hand the flight back and update the UI
+            animation.setOnFinished(e -> {
+                AnimationCallback finishedCallback = callback;
+                callback = null;
+                releaseFlight(this);
+
+                if (finishedCallback != null) {
+                    finishedCallback.onAnimationComplete();
+                }
+            });
+        }
+
+        private void setFace(StackPane face) {
+            host.getChildren().setAll(face);
+            host.setTranslateX(0);
+            host.setTranslateY(0);
+            host.setRotate(0);
+            host.setVisible(true);
+        }
+
+        private void play(AnimationCallback callback) {
+            this.callback = callback;
+            animation.playFromStart();
+        }
+    }
+
+    /**
+     * A reusable fade and slide animation for cards entering a hand.
+     */
+    private final class DrawAnimation {
+        private final FadeTransition fadeIn = new FadeTransition(DRAW_DURATION);
+        private final TranslateTransition moveIn = new TranslateTransition(DRAW_DURATION);
+        private final ParallelTransition animation = new ParallelTransition(fadeIn, moveIn);
+        private AnimationCallback callback;
+
+        private DrawAnimation() {
+            fadeIn.setFromValue(0);
+            fadeIn.setToValue(1);
+            moveIn.setFromY(-20);
+            moveIn.setToY(0);
+            AnimationTracker.track(animation);
+
+            animation.setOnFinished(e -> {
+                AnimationCallback finishedCallback = callback;
+                callback = null;
+                fadeIn.setNode(null);
+                moveIn.setNode(null);
+
+                if (idleDrawAnimations.size() < MAX_IDLE_FLIGHTS) {
+                    idleDrawAnimations.push(this);
+                }
+
+                if (finishedCallback != null) {
+                    finishedCallback.onAnimationComplete();
+                }
+            });
+        }
+
+        private void play(Node cardView, AnimationCallback callback) {
+            this.callback = callback;
+            fadeIn.setNode(cardView);
+            moveIn.setNode(cardView);
+            AnimationClock.getInstance().applyRate(animation, QualityGovernor.getInstance().getLevel().getTransitionRate());
+            animation.playFromStart();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
+
+import javafx.animation.TranslateTransition;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Card;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationClock;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationTracker;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.GameViewRegistry;
+
+/**
+ * Lets the human player drag a card from the hand onto the discard pile.
+ * While a card is dragged it is rendered from a cached bitmap and moved with translation only,
+ * so neither the hand nor the table is laid out again until the card is dropped. Dropping over
+ * the discard pile hands the card to the regular play path; dropping anywhere else, or a play the
+ * game refuses, sends it back.
+ */
+public class CardDragController {
+
+    // Distance the mouse has to move before a press becomes a drag
+    private static final double DRAG_THRESHOLD = 5;
+
+    // Scale of the discard pile while a card is held over it
+    private static final double DROP_TARGET_SCALE = 1.08;
+
+    private static final Duration RETURN_DURATION = Duration.millis(150);
+
+    // Key of the card model stored in a card view's properties
+    private static final String CARD_KEY = "uno.dragCard";
+
+    /**
+     * Interface for cards dropped on the discard pile
+     */
+    public interface DropCallback {
+        /**
+         * Plays a dropped card.
+         *
+         * @param cardView The dropped card view
+         * @param card The card model it shows
+         * @return true if the card is being played, false if it was refused
+         */
+        boolean onCardDropped(StackPane cardView, Card card);
+    }
+
+    private final StackPane discardPileContainer;
+    private final DropCallback dropCallback;
+
+    // One set of handlers is shared by all card views; the card comes from the event source
+    private final EventHandler<MouseEvent> pressedHandler = this::onMousePressed;
+    private final EventHandler<MouseEvent> draggedHandler = this::onMouseDragged;
+    private final EventHandler<MouseEvent> releasedHandler = this::onMouseReleased;
+    private final EventHandler<MouseEvent> clickFilter = this::onMouseClicked;
+
+    // Animation that sends a card back to its place in the hand
+    private final TranslateTransition returnAnimation = new TranslateTransition(RETURN_DURATION);
+
+    // State of the current drag
+    private StackPane draggedView;
+    private boolean dragging = false;
+    private double pressSceneX;
+    private double pressSceneY;
+    private double startTranslateX;
+    private double startTranslateY;
+    private Bounds discardBounds;
+    private boolean overDiscardPile = false;
+
+    // Set when a drag ends, so the click that follows the release does not play the card again
+    private boolean suppressNextClick = false;
+
+    /**
+     * Creates a new card drag controller.
+     *
+     * @param viewRegistry The registry holding the discard pile container
+     * @param dropCallback Called when a card is dropped on the discard pile
+     */
+    public CardDragController(GameViewRegistry viewRegistry, DropCallback dropCallback) {
+        this.discardPileContainer = viewRegistry.getDiscardPileContainer();
+        this.dropCallback = dropCallback;
+
+        returnAnimation.setToX(0);
+        returnAnimation.setToY(0);
+        returnAnimation.setOnFinished(e -> returnAnimation.setNode(null));
+        AnimationTracker.track(returnAnimation);
+    }
+
+    /**
+     * Makes a card view draggable onto the discard pile.
+     *
+     * @param cardView The card view in the hand
+     * @param card The card model it shows
+     */
+    public void enableDrag(StackPane cardView, Card card) {
+        cardView.getProperties().put(CARD_KEY, card);
+        cardView.addEventHandler(MouseEvent.MOUSE_PRESSED, pressedHandler);
+        cardView.addEventHandler(MouseEvent.MOUSE_DRAGGED, draggedHandler);
+        cardView.addEventHandler(MouseEvent.MOUSE_RELEASED, releasedHandler);
+        cardView.addEventFilter(MouseEvent.MOUSE_CLICKED, clickFilter);
+    }
+
+    private void onMousePressed(MouseEvent event) {
+        if (event.getButton() != MouseButton.PRIMARY || draggedView != null) {
+            return;
+        }
+
+        draggedView = (StackPane) event.getSource();
+        dragging = false;
+        pressSceneX = event.getSceneX();
+        pressSceneY = event.getSceneY();
+    }
+
+    private void onMouseDragged(MouseEvent event) {
+        if (draggedView == null || event.getSource() != draggedView) {
+            return;
+        }
+
+        double deltaX = event.getSceneX() - pressSceneX;
+        double deltaY = event.getSceneY() - pressSceneY;
+
+        if (!dragging) {
+            if (Math.hypot(deltaX, deltaY) < DRAG_THRESHOLD) {
+                return;
+            }
+            startDrag();
+        }
+
+        // Translation only, so the move does not cause a layout pass
+        draggedView.setTranslateX(startTranslateX + deltaX);
+        draggedView.setTranslateY(startTranslateY + deltaY);
+
+        // Hit-test against bounds taken at drag start, and only touch the pile when the state flips
+        boolean overPile = discardBounds != null && discardBounds.contains(event.getSceneX(), event.getSceneY());
+        if (overPile != overDiscardPile) {
+            overDiscardPile = overPile;
+            discardPileContainer.setScaleX(overPile ? DROP_TARGET_SCALE : 1.0);
+            discardPileContainer.setScaleY(overPile ? DROP_TARGET_SCALE : 1.0);
+        }
+        event.consume();
+    }
+
+    private void onMouseReleased(MouseEvent event) {
+        if (draggedView == null || event.getSource() != draggedView) {
+            return;
+        }
+
+        StackPane view = draggedView;
+        boolean wasDragging = dragging;
+        boolean dropped = overDiscardPile;
+        endDrag();
+        suppressNextClick = wasDragging;
+
+        if (!wasDragging) {
+            // A plain click, handled by the card's click handler
+            return;
+        }
+
+        // Play from where the card was dropped, or send it back if it was refused
+        if (!dropped || !dropCallback.onCardDropped(view, (Card) view.getProperties().get(CARD_KEY))) {
+            returnToHand(view);
+        }
+        event.consume();
+    }
+
+    private void onMouseClicked(MouseEvent event) {
+        if (suppressNextClick) {
+            suppressNextClick = false;
+            event.consume();
+        }
+    }
+
+    private void startDrag() {
+        dragging = true;
+        returnAnimation.stop();
+
+        // Render the card from a bitmap while it moves
+        draggedView.setCache(true);
+        draggedView.setCacheHint(CacheHint.SPEED);
+
+        // Draw above the other cards without reordering the hand's children
+        draggedView.setViewOrder(-1);
+
+        startTranslateX = draggedView.getTranslateX();
+        startTranslateY = draggedView.getTranslateY();
+        discardBounds = discardPileContainer.localToScene(discardPileContainer.getBoundsInLocal());
+    }
+
+    private void endDrag() {
+        if (dragging) {
+            draggedView.setCacheHint(CacheHint.DEFAULT);
+            draggedView.setCache(false);
+            draggedView.setViewOrder(0);
+        }
+
+        if (overDiscardPile) {
+            discardPileContainer.setScaleX(1.0);
+            discardPileContainer.setScaleY(1.0);
+        }
+
+        draggedView = null;
+        dragging = false;
+        overDiscardPile = false;
+        discardBounds = null;
+    }
+
+    private void returnToHand(StackPane view) {
+        if (AnimationClock.getInstance().isInstant()) {
+            view.setTranslateX(0);
+            view.setTranslateY(0);
+            return;
+        }
+
+        returnAnimation.setNode(view);
+        AnimationClock.getInstance().applyRate(returnAnimation, 1.0).playFromStart();
+    }
+}
@@ -2,46 +2,72 @@ package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
 
 import javafx.animation.ScaleTransition;
 import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.stage.Stage;
 import javafx.util.Duration;
 import javafx.animation.Timeline;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.*;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationClock;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationLifecycleManager;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.view.CardRenderer;
-import metu.ceng.ceng453_20242_group3_frontend.features.game.view.ColorSelectionDialog;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.GameViewRegistry;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.HandView;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.ModalOverlayLayer;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.view.NotificationManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.PerformanceOverlay;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.QualityGovernor;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.view.UnoIndicatorManager;
 import java.io.IOException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.model.ApiResponse;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ApiClient;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.HttpClientManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ImageCache;
 
 /**
  * Controller for the game view.
  */
 public class GameController {
     
+    // Direction indicator images
+    private static final String CLOCKWISE_ARROW_IMAGE = "/images/arrow-clockwise.png";
+    private static final String COUNTER_CLOCKWISE_ARROW_IMAGE = "/images/arrow-counterclockwise.png";
+    
+    // The game start API responds with the new game's ID as its data
+    private static final TypeReference<ApiResponse<Integer>> GAME_ID_TYPE = new TypeReference<>() {};
+    
+    /**
+     * How a card in the human player's hand is drawn and what clicking it does.
+     */
+    private enum HandCardState {
+        PLAYABLE,
+        UNPLAYABLE,
+        NOT_YOUR_TURN
+    }
+    
     @FXML
     private AnchorPane gamePane;
     
@@ -116,6 +142,9 @@ public class GameController {
     @FXML
     private Button wildDrawFourButton;
     
+    @FXML
+    private ToggleButton sortHandToggle;
+    
     // Game state using our Game model
     private Game game;
     private boolean isGameRunning = true;
@@ -137,27 +166,75 @@ public class GameController {
     private javafx.animation.Timeline gameTableAnimation;
     
     // Sub-controllers
+    private GameViewRegistry viewRegistry;
+    private AnimationLifecycleManager animationLifecycleManager;
+    private ModalOverlayLayer modalOverlay;
     private NotificationManager notificationManager;
     private UnoIndicatorManager unoIndicatorManager;
     private GameTableController gameTableController;
     private AIPlayerController aiPlayerController;
     private CardAnimationController cardAnimationController;
+    private CardDragController cardDragController;
+    private PerformanceOverlay performanceOverlay;
+    private HandView handView;
+    private final EventHandler<KeyEvent> debugKeyHandler = this::handleDebugKeys;
+    private final Runnable feedbackPulseListener = this::onFeedbackPulse;
+    
+    // Click-to-feedback timing for the human player's plays
+    private long feedbackStartNanos = 0;
+    private boolean feedbackShown = false;
+    private final ChangeListener<QualityGovernor.QualityLevel> qualityListener = (obs, oldLevel, newLevel) -> {
+        if (game != null && isGameRunning) {
+            // Card effects depend on the level, so every hand card is rebuilt
+            handView.clear();
+            updateUI();
+        }
+    };
     
     @FXML
     private void initialize() {
-        // Initialize notification manager
-        notificationManager = new NotificationManager(gamePane);
+        // Pause decorative loops whenever the window is minimized, unfocused or idle
+        animationLifecycleManager = new AnimationLifecycleManager(gamePane);
         
-        // Initialize UNO indicator manager
-        unoIndicatorManager = new UnoIndicatorManager(
+        // Pre-build the color picker, exit confirmation and game over dialogs
+        modalOverlay = new ModalOverlayLayer(gamePane, animationLifecycleManager);
+        
+        // Register the game view nodes once, so sub-controllers do not search the scene graph
+        viewRegistry = new GameViewRegistry(
+            gamePane,
+            topPlayerArea,
+            leftPlayerArea,
+            rightPlayerArea,
+            bottomPlayerArea,
             topPlayerNameLabel,
             leftPlayerNameLabel,
             rightPlayerNameLabel,
-            bottomPlayerNameLabel
+            bottomPlayerNameLabel,
+            drawPileContainer,
+            discardPileContainer
         );
         
+        // Initialize notification manager
+        notificationManager = new NotificationManager(viewRegistry);
+        
+        // Initialize UNO indicator manager
+        unoIndicatorManager = new UnoIndicatorManager(viewRegistry, animationLifecycleManager);
+        
         // Initialize API client
-        apiClient = new ApiClient();
+        apiClient = ApiClient.getInstance();
+        
+        // Start decoding the direction indicator images before the first turn
+        ImageCache.getInstance().preload(CLOCKWISE_ARROW_IMAGE, COUNTER_CLOCKWISE_ARROW_IMAGE);
+        
+        // Dropping a card on the discard pile plays it like a click does
+        cardDragController = new CardDragController(viewRegistry, this::playCard);
+        
+        // Initialize the human player's hand layout
+        handView = new HandView(bottomPlayerCardsContainer, this::createHandCardView, this::getHandCardState);
+        
+        // Optional automatic sorting of the hand, on by default with -Duno.sortHand=true
+        sortHandToggle.setSelected(Boolean.getBoolean("uno.sortHand"));
+        sortHandToggle.selectedProperty().addListener((obs, wasSorted, isSorted) -> setHandSorted(isSorted));
         
         // Initialize cheat buttons
         initializeCheatButtons();
@@ -172,18 +249,50 @@ public class GameController {
         }
         
         // Initialize game table controller
-        gameTableController = new GameTableController(
-            gamePane,
-            topPlayerArea,
-            leftPlayerArea,
-            rightPlayerArea,
-            bottomPlayerArea
-        );
+        gameTableController = new GameTableController(viewRegistry, animationLifecycleManager);
+        
+        // Initialize the performance overlay (F3 toggles it, F4 toggles the frame trace, F5 cycles animation speed)
+        performanceOverlay = new PerformanceOverlay(gamePane);
+        gamePane.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                newScene.addEventFilter(KeyEvent.KEY_PRESSED, debugKeyHandler);
+                newScene.addPostLayoutPulseListener(feedbackPulseListener);
+                QualityGovernor.getInstance().attach(newScene);
+                
+                // Re-render the table when the quality governor changes the rendering level
+                QualityGovernor.getInstance().levelProperty().addListener(qualityListener);
+            } else if (oldScene != null) {
+                oldScene.removeEventFilter(KeyEvent.KEY_PRESSED, debugKeyHandler);
+                oldScene.removePostLayoutPulseListener(feedbackPulseListener);
+                QualityGovernor.getInstance().detach();
+                QualityGovernor.getInstance().levelProperty().removeListener(qualityListener);
+            }
+        });
         
         // Card animation controller will be initialized when the game starts
         // since it needs the discard pile container
     }
     
+    /**
+     * Handles the debug keys for the performance overlay and the animation speed.
+     * 
+     * @param event The key event
+     */
+    private void handleDebugKeys(KeyEvent event) {
+        if (event.getCode() == KeyCode.F3) {
+            performanceOverlay.toggle();
+            event.consume();
+        } else if (event.getCode() == KeyCode.F4) {
+            performanceOverlay.toggleTrace();
+            event.consume();
+        } else if (event.getCode() == KeyCode.F5) {
+            // The overlay shows the new speed; toasts are not shown in instant mode
+            AnimationClock.getInstance().cycleSpeed();
+            performanceOverlay.setVisible(true);
+            event.consume();
+        }
+    }
+    
     /**
      * Initializes the game with the specified parameters.
      * 
@@ -210,25 +319,18 @@ public class GameController {
         this.gameId = null;
         
         // Call the game start API
-        String requestBody = String.format("{\"gameType\": \"SINGLE_PLAYER\", \"multiplayer\": false}");
-        apiClient.post("/game/start", requestBody, 
-            response -> {
-                try {
-                    // Parse the response and extract game ID
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode root = objectMapper.readTree(response);
-                    if (root.has("data")) {
-                        this.gameId = root.get("data").asInt();
-                        System.out.println("Game started with ID: " + this.gameId);
+        Map<String, Object> requestBody = Map.of("gameType", "SINGLE_PLAYER", "multiplayer", false);
+        apiClient.post("/game/start", requestBody, GAME_ID_TYPE)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        System.err.println("Failed to call game start API: " + HttpClientManager.describe(error));
+                    } else if (response.getData() == null) {
+                        System.err.println("Game ID not found in game start response");
                     } else {
-                        System.err.println("Game ID not found in response: " + response);
+                        this.gameId = response.getData();
+                        System.out.println("Game started with ID: " + this.gameId);
                     }
-                } catch (Exception e) {
-                    System.err.println("Failed to parse game start response: " + e.getMessage());
-                }
-            },
-            error -> System.err.println("Failed to call game start API: " + error)
-        );
+                });
         
         // Debug output to confirm game direction
         System.out.println("GAME INITIALIZATION - DIRECTION IS: " + game.getDirection());
@@ -244,6 +346,7 @@ public class GameController {
                           SessionManager.getInstance().getCurrentUser().getUsername() : 
                           "Player";
         Player humanPlayer = new Player(username);
+        humanPlayer.setHandSorted(sortHandToggle.isSelected());
         game.addPlayer(humanPlayer);
         
         // Create AI player names in the correct order for the layout
@@ -284,7 +387,7 @@ public class GameController {
         }
         
         // Initialize sub-controllers that need the game model
-        cardAnimationController = new CardAnimationController(gamePane, discardPileContainer);
+        cardAnimationController = new CardAnimationController(viewRegistry);
         
         // Initialize AI player controller with a callback for card plays
         aiPlayerController = new AIPlayerController(
@@ -342,9 +445,10 @@ public class GameController {
     /**
      * Updates the UI to match the current game state
      */
-    private void updateUI() {
-        // Clear any existing cards
-        bottomPlayerCardsContainer.getChildren().clear();
+    void updateUI() {
+        long startNanos = PerformanceOverlay.isMeasuring() ? System.nanoTime() : 0;
+        
+        // Clear any existing opponent cards (the human hand is reconciled by the hand view)
         topPlayerCardsContainer.getChildren().clear();
         leftPlayerCardsContainer.getChildren().clear();
         rightPlayerCardsContainer.getChildren().clear();
@@ -401,6 +505,10 @@ public class GameController {
         updateDirectionIndicator();
 
         updateTurnLabel();
+        
+        if (startNanos != 0) {
+            PerformanceOverlay.recordSection(PerformanceOverlay.Section.UPDATE_UI, System.nanoTime() - startNanos);
+        }
     }
     
     /**
@@ -418,6 +526,24 @@ public class GameController {
         
         Player opponent = game.getPlayers().get(playerIndex);
         
+        // At minimal quality, show a single card back with the number of cards
+        if (QualityGovernor.getInstance().getLevel().usesOpponentCountBadges()) {
+            StackPane cardBackView = CardRenderer.createCardBackView();
+            
+            Label countBadge = new Label(String.valueOf(opponent.getHand().size()));
+            countBadge.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-background-radius: 12; -fx-text-fill: white; "
+                    + "-fx-font-weight: bold; -fx-padding: 4 8;");
+            StackPane.setAlignment(countBadge, javafx.geometry.Pos.TOP_RIGHT);
+            cardBackView.getChildren().add(countBadge);
+            
+            if (rotation != 0) {
+                cardBackView.setRotate(rotation);
+            }
+            
+            container.getChildren().add(cardBackView);
+            return;
+        }
+        
         // Debug mode: Show cards face up instead of card backs
         for (Card card : opponent.getHand()) {
             StackPane cardView = createCardView(card);
@@ -469,52 +595,90 @@ public class GameController {
      * Updates the visual appearance of cards in the player's hand
      */
     private void updatePlayerHandVisuals() {
-        bottomPlayerCardsContainer.getChildren().clear();
-        
-        if (game == null || game.getPlayers().isEmpty()) return;
+        if (game == null || game.getPlayers().isEmpty()) {
+            handView.clear();
+            return;
+        }
         
         // First, make sure the playable status of cards is up-to-date
         game.updatePlayableCards();
         
+        // Rebuild only the cards whose playability or turn state changed
         Player humanPlayer = game.getPlayers().get(0);
-        for (Card card : humanPlayer.getHand()) {
-            StackPane cardView = createCardView(card);
-            
-            // Check if the card is playable according to the game rules
-            boolean isPlayable = card.isPlayable();
+        handView.refresh(humanPlayer.getHand());
+    }
+    
+    /**
+     * Works out how a card in the human player's hand should be shown.
+     * The hand view rebuilds a card's view only when this changes.
+     * 
+     * @param card The card in the hand
+     * @return The card's state
+     */
+    private HandCardState getHandCardState(Card card) {
+        if (!card.isPlayable()) {
+            return HandCardState.UNPLAYABLE;
+        }
+        return game.getCurrentPlayerIndex() == 0 ? HandCardState.PLAYABLE : HandCardState.NOT_YOUR_TURN;
+    }
+    
+    /**
+     * Turns automatic sorting of the human player's hand on or off.
+     * 
+     * @param sorted Whether to keep the hand sorted
+     */
+    private void setHandSorted(boolean sorted) {
+        if (game == null || game.getPlayers().isEmpty()) {
+            return;
+        }
+        game.getPlayers().get(0).setHandSorted(sorted);
+        updatePlayerHandVisuals();
+    }
+    
+    /**
+     * Creates the view for a card in the human player's hand, including its click handling.
+     * 
+     * @param card The card model to display
+     * @return The card view
+     */
+    private StackPane createHandCardView(Card card) {
+        StackPane cardView = createCardView(card);
+        HandCardState state = getHandCardState(card);
+        
+        // Only enable click for playable cards and when it's player's turn
+        if (state == HandCardState.PLAYABLE) {
+            // Add glow effect to playable cards
+            cardView.setEffect(new javafx.scene.effect.DropShadow(15, Color.GOLD));
+            cardView.setStyle("-fx-cursor: hand;");
+            cardView.setOnMouseClicked(event -> playCard(cardView, card));
             
-            // Only enable click for playable cards and when it's player's turn
-            if (isPlayable && game.getCurrentPlayerIndex() == 0) {
-                // Add glow effect to playable cards
-                cardView.setEffect(new javafx.scene.effect.DropShadow(15, Color.GOLD));
-                cardView.setStyle("-fx-cursor: hand;");
-                cardView.setOnMouseClicked(event -> playCard(cardView, card));
+            // The card can also be dragged onto the discard pile
+            cardDragController.enableDrag(cardView, card);
+        } else {
+            // For unplayable cards, set a dimmed appearance
+            cardView.setOpacity(0.8);
+            // Remove click handler for unplayable cards to prevent attempts
+            // that would fail the validation checks
+            if (state == HandCardState.UNPLAYABLE) {
+                // Add a different click handler that explains why the card can't be played
+                cardView.setOnMouseClicked(event -> {
+                    if (card.getAction() == CardAction.WILD_DRAW_FOUR) {
+                        showCardUnplayableMessage("You can't play a Wild Draw Four when you have cards matching the current color.");
+                    } else {
+                        showCardUnplayableMessage("This card doesn't match the color or value of the top card.");
+                    }
+                });
+                cardView.setStyle("-fx-cursor: not-allowed;");
             } else {
-                // For unplayable cards, set a dimmed appearance
-                cardView.setOpacity(0.8);
-                // Remove click handler for unplayable cards to prevent attempts
-                // that would fail the validation checks
-                if (!isPlayable) {
-                    // Add a different click handler that explains why the card can't be played
-                    cardView.setOnMouseClicked(event -> {
-                        if (card.getAction() == CardAction.WILD_DRAW_FOUR) {
-                            showCardUnplayableMessage("You can't play a Wild Draw Four when you have cards matching the current color.");
-                        } else {
-                            showCardUnplayableMessage("This card doesn't match the color or value of the top card.");
-                        }
-                    });
-                    cardView.setStyle("-fx-cursor: not-allowed;");
-                } else {
-                    // Card is playable but it's not player's turn
-                    cardView.setOnMouseClicked(event -> {
-                        showCardUnplayableMessage("It's not your turn.");
-                    });
-                    cardView.setStyle("-fx-cursor: wait;");
-                }
+                // Card is playable but it's not player's turn
+                cardView.setOnMouseClicked(event -> {
+                    showCardUnplayableMessage("It's not your turn.");
+                });
+                cardView.setStyle("-fx-cursor: wait;");
             }
-            
-            bottomPlayerCardsContainer.getChildren().add(cardView);
         }
+        
+        return cardView;
     }
     
     /**
@@ -531,11 +695,12 @@ public class GameController {
      * 
      * @param cardView The card view to animate
      * @param card The card model to play
+     * @return true if the card is being played, false if it was refused and stays in the hand
      */
-    private void playCard(StackPane cardView, Card card) {
+    boolean playCard(StackPane cardView, Card card) {
         // Check if the game is running
         if (!isGameRunning || game == null) {
-            return;
+            return false;
         }
         
         Player currentPlayer = game.getCurrentPlayer();
@@ -543,7 +708,7 @@ public class GameController {
         // Make sure it's the player's turn
         if (currentPlayer.isAI() || game.getCurrentPlayerIndex() != 0) {
             showCardUnplayableMessage("It's not your turn.");
-            return;
+            return false;
         }
         
         // In the initial state (discard pile empty), all cards are playable
@@ -551,6 +716,7 @@ public class GameController {
             System.out.println("Playing first card in the game");
             // Set the first card played flag (for initial card)
             firstCardPlayed = true;
+            startFeedbackTiming();
             
             // For wild cards, handle color selection
             if (card.isWildCard()) {
@@ -562,7 +728,7 @@ public class GameController {
                 // For regular cards, the game will set the color to the card's color
                 finishCardPlay(cardView, card);
             }
-            return;
+            return true;
         }
         
         // Make sure the playable status is up-to-date
@@ -571,9 +737,11 @@ public class GameController {
         // Check if the card is playable according to UNO rules
         if (!card.isPlayable()) {
             showCardUnplayableMessage("This card doesn't match the color or value of the top card.");
-            return;
+            return false;
         }
         
+        startFeedbackTiming();
+        
         // Extra validation for WILD_DRAW_FOUR
         if (card.getAction() == CardAction.WILD_DRAW_FOUR) {
             // Let the Game class handle the validation, we just need to select color
@@ -589,6 +757,7 @@ public class GameController {
             // For regular cards, game will set the color to the card's color
             finishCardPlay(cardView, card);
         }
+        return true;
     }
     
     /**
@@ -598,18 +767,16 @@ public class GameController {
      * @param onColorSelected Callback for when color selection is complete
      */
     private void handleWildCardColorSelection(Card card, Runnable onColorSelected) {
-        Stage stage = (Stage) gamePane.getScene().getWindow();
-        
-        ColorSelectionDialog dialog = new ColorSelectionDialog(stage, selectedColor -> {
+        modalOverlay.showColorPicker(selectedColor -> {
+            // Time the feedback from the color choice rather than from the first click
+            feedbackStartNanos = System.nanoTime();
+            
             // Set the current color in the game
             game.setCurrentColor(selectedColor);
             
             // Execute the callback
             onColorSelected.run();
         });
-        
-        // Show the dialog
-        dialog.show();
     }
     
     /**
@@ -659,7 +826,7 @@ public class GameController {
         }
         
         // Remove card from player's hand visually
-        bottomPlayerCardsContainer.getChildren().remove(cardView);
+        handView.removeCardView(cardView);
         
         Player currentPlayer = game.getCurrentPlayer();
         int originalCardCount = currentPlayer.getCardCount();
@@ -695,23 +862,18 @@ public class GameController {
                 }
             }
             
-            // Use the CardAnimationController to animate the card to the discard pile
-            cardAnimationController.animateCardFromPosition(card, originalX, originalY, new CardAnimationController.AnimationCallback() {
-                @Override
-                public void onAnimationComplete() {
-                    // Update the discard pile
-                    setupDiscardPile();
-                    
-                    // Update UNO indicators
-                    updateUnoIndicators();
-                    
-                    // For DRAW_TWO and WILD_DRAW_FOUR cards, force an immediate UI update 
-                    // to show the drawn cards in opponent hands
-                    if (card.getAction() == CardAction.DRAW_TWO || card.getAction() == CardAction.WILD_DRAW_FOUR) {
-            updateUI();
-                    }
-                }
-            });
+            // Show the result right away instead of waiting for the card to land
+            if (card.getAction() == CardAction.DRAW_TWO || card.getAction() == CardAction.WILD_DRAW_FOUR) {
+                // Also shows the drawn cards in opponent hands
+                updateUI();
+            } else {
+                setupDiscardPile();
+                updateUnoIndicators();
+            }
+            markFeedbackShown();
+            
+            // The flight to the discard pile is purely cosmetic and runs on the overlay
+            cardAnimationController.animateCardFromPosition(card, originalX, originalY, null);
             
             // Update direction indicator
             updateDirectionIndicator();
@@ -726,10 +888,44 @@ public class GameController {
             }
             
             // Update playable cards
-                updatePlayableCards();
-                
+            updatePlayableCards();
+            
             // Handle AI turns
             aiPlayerController.handleAITurns();
+        } else {
+            // The model rejected the play, so put the card back into the hand
+            System.out.println("Card play was rejected: " + card);
+            updatePlayerHandVisuals();
+            feedbackStartNanos = 0;
+        }
+    }
+    
+    /**
+     * Starts timing an accepted user action until its result is visible on screen.
+     */
+    private void startFeedbackTiming() {
+        feedbackStartNanos = System.nanoTime();
+        feedbackShown = false;
+    }
+    
+    /**
+     * Marks the result of the current user action as applied to the views.
+     * The next laid-out frame reports the click-to-feedback latency to the performance overlay.
+     */
+    private void markFeedbackShown() {
+        if (feedbackStartNanos != 0) {
+            feedbackShown = true;
+        }
+    }
+    
+    /**
+     * Reports the click-to-feedback latency on the first frame laid out after the feedback was applied.
+     */
+    private void onFeedbackPulse() {
+        if (feedbackShown) {
+            PerformanceOverlay.recordInputLatency(System.nanoTime() - feedbackStartNanos);
+            feedbackShown = false;
+            feedbackStartNanos = 0;
         }
     }
     
@@ -744,14 +940,13 @@ public class GameController {
         Direction gameDirection = game.getDirection();
         System.out.println("### UPDATING DIRECTION INDICATOR - CURRENT DIRECTION: " + gameDirection + " ###");
         
-        // Simple direct PNG loading
         boolean isClockwise = gameDirection == Direction.CLOCKWISE;
         String imagePath = isClockwise 
-            ? "/images/arrow-clockwise.png" 
-            : "/images/arrow-counterclockwise.png";
+            ? CLOCKWISE_ARROW_IMAGE 
+            : COUNTER_CLOCKWISE_ARROW_IMAGE;
         
-        // Load the image directly
-        Image directionImage = new Image(getClass().getResourceAsStream(imagePath));
+        // Decoded once and shared through the image cache
+        Image directionImage = ImageCache.getInstance().get(imagePath);
         directionIndicator.setImage(directionImage);
         
         // Animate it
@@ -762,7 +957,9 @@ public class GameController {
         pulse.setToY(1.2);
         pulse.setCycleCount(2);
         pulse.setAutoReverse(true);
-        pulse.play();
+        if (!AnimationClock.getInstance().isInstant()) {
+            AnimationClock.getInstance().applyRate(animationLifecycleManager.registerDecorative(pulse), 1.0).play();
+        }
     }
     
     /**
@@ -850,7 +1047,7 @@ public class GameController {
     /**
      * Handles the action of drawing a card from the draw pile
      */
-    private void drawCard() {
+    void drawCard() {
         if (!isGameRunning || game == null) {
             return;
         }
@@ -864,28 +1061,19 @@ public class GameController {
         Card drawnCard = game.drawCardWithoutAdvancingTurn();
         
         if (drawnCard != null) {
-            // Create animation for card being added to hand
-            StackPane cardView = createCardView(drawnCard);
-            cardView.setOpacity(0);
-            cardView.setTranslateY(-20);
+            // Add the card to the player's hand UI and scroll it into view
+            handView.setCards(game.getPlayers().get(0).getHand());
+            StackPane cardView = handView.reveal(drawnCard);
+            if (cardView == null) {
+                cardView = createCardView(drawnCard);
+            }
+            final StackPane drawnCardView = cardView;
             
             // Add click event to the new card
-            cardView.setOnMouseClicked(event -> playCard(cardView, drawnCard));
-            
-            // Add the card to the player's hand UI
-            bottomPlayerCardsContainer.getChildren().add(cardView);
-            
-            // Animate the card appearing
-            javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(Duration.millis(300), cardView);
-            fadeIn.setFromValue(0);
-            fadeIn.setToValue(1);
-            
-            javafx.animation.TranslateTransition moveIn = new javafx.animation.TranslateTransition(Duration.millis(300), cardView);
-            moveIn.setFromY(-20);
-            moveIn.setToY(0);
+            drawnCardView.setOnMouseClicked(event -> playCard(drawnCardView, drawnCard));
             
-            javafx.animation.ParallelTransition animation = new javafx.animation.ParallelTransition(fadeIn, moveIn);
-            animation.setOnFinished(e -> {
+            // Animate the card appearing using the pooled draw animation
+            cardAnimationController.animateCardIntoHand(drawnCardView, () -> {
                 // Update the UI after animation completes
                 updateUI();
                 
@@ -899,16 +1087,12 @@ public class GameController {
                     // If the card is playable, show a notification and don't advance the turn
                     notificationManager.showActionNotification("", "The drawn card is playable. You may play it now.");
                     
-                    // Highlight the drawn card more prominently
-                    cardView.setEffect(new javafx.scene.effect.DropShadow(20, Color.GOLD));
-                    ScaleTransition pulse = new ScaleTransition(Duration.millis(500), cardView);
-                    pulse.setFromX(1.0);
-                    pulse.setFromY(1.0);
-                    pulse.setToX(1.2);
-                    pulse.setToY(1.2);
-                    pulse.setCycleCount(3);
-                    pulse.setAutoReverse(true);
-                    pulse.play();
+                    // Highlight the drawn card more prominently; its view was rebuilt once it became playable
+                    StackPane playableView = handView.reveal(drawnCard);
+                    if (playableView != null) {
+                        playableView.setEffect(new javafx.scene.effect.DropShadow(20, Color.GOLD));
+                        cardAnimationController.pulseDrawnCard(playableView);
+                    }
                 } else {
                     // If the card is not playable, advance to the next player's turn
                     game.advanceTurnAfterDraw();
@@ -923,8 +1107,6 @@ public class GameController {
                     aiPlayerController.handleAITurns();
                 }
             });
-            
-            animation.play();
         } else {
             // If no card was drawn (e.g., draw pile is empty), still update the UI
             updateUI();
@@ -956,6 +1138,9 @@ public class GameController {
     private void handleGameEnd(boolean isPlayerWinner) {
         isGameRunning = false;
         
+        // The turn pulses are no longer meaningful
+        animationLifecycleManager.onGameOver();
+        
         // Get the name of the winner
         String winnerName;
         if (isPlayerWinner) {
@@ -967,99 +1152,22 @@ public class GameController {
         // Call the game end API if we have a valid game ID
         if (gameId != null) {
             String sanitizedWinnerName = winnerName.replace(" ", "");
-            String requestBody = String.format("{\"id\": %d, \"winnerUsername\": \"%s\"}", gameId, sanitizedWinnerName);
+            Map<String, Object> requestBody = Map.of("id", gameId, "winnerUsername", sanitizedWinnerName);
             
-            apiClient.post("/game/end", requestBody, 
-                response -> System.out.println("Game end API called successfully: " + response),
-                error -> System.err.println("Failed to call game end API: " + error)
-            );
+            apiClient.post("/game/end", requestBody, JsonNode.class)
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            System.err.println("Failed to call game end API: " + HttpClientManager.describe(error));
+                        } else {
+                            System.out.println("Game end API called successfully: " + response);
+                        }
+                    });
         } else {
             System.err.println("Cannot call game end API: No game ID available");
         }
         
         // Use Platform.runLater to ensure UI updates happen on the JavaFX thread
-        Platform.runLater(() -> {
-            // Find the StackPane in the center of the grid (game table)
-            final StackPane gameTableStack = findGameTable();
-            
-            if (gameTableStack != null) {
-                // Create a game over overlay
-                StackPane gameOverPane = new StackPane();
-                gameOverPane.setPrefWidth(500);
-                gameOverPane.setPrefHeight(400);
-                gameOverPane.setStyle("-fx-background-color: rgba(0, 0, 0, 0.8); -fx-background-radius: 20;");
-                gameOverPane.setEffect(new javafx.scene.effect.DropShadow(20, Color.BLACK));
-                
-                // Create content for the game over screen
-                VBox content = new VBox(20);
-                content.setAlignment(javafx.geometry.Pos.CENTER);
-                content.setPadding(new javafx.geometry.Insets(30));
-                
-                // Game over header
-                Label gameOverLabel = new Label("GAME OVER");
-                gameOverLabel.setStyle("-fx-font-size: 36px; -fx-font-weight: bold; -fx-text-fill: white;");
-                
-                // Winner text with animation
-                Label winnerLabel = new Label(isPlayerWinner ? "YOU WIN!" : "YOU LOSE!");
-                winnerLabel.setStyle("-fx-font-size: 48px; -fx-font-weight: bold; -fx-text-fill: " + 
-                        (isPlayerWinner ? "gold" : "crimson") + ";");
-                
-                // Winner name
-                Label winnerNameLabel = new Label("Winner: " + winnerName);
-                winnerNameLabel.setStyle("-fx-font-size: 24px; -fx-text-fill: white;");
-                
-                // Buttons container
-                HBox buttonsBox = new HBox(30);
-                buttonsBox.setAlignment(javafx.geometry.Pos.CENTER);
-                buttonsBox.setPadding(new javafx.geometry.Insets(20, 0, 0, 0));
-                
-                // Exit button
-                Button exitButton = new Button("EXIT GAME");
-                exitButton.setStyle("-fx-background-color: #F44336; -fx-text-fill: white; -fx-font-weight: bold; " +
-                        "-fx-font-size: 16px; -fx-padding: 15 30; -fx-background-radius: 10;");
-                exitButton.setOnAction(e -> navigateToMainMenu());
-                
-                // Add hover effects to button
-                exitButton.setOnMouseEntered(e -> 
-                    exitButton.setStyle("-fx-background-color: #EF5350; -fx-text-fill: white; -fx-font-weight: bold; " +
-                            "-fx-font-size: 16px; -fx-padding: 15 30; -fx-background-radius: 10;"));
-                exitButton.setOnMouseExited(e -> 
-                    exitButton.setStyle("-fx-background-color: #F44336; -fx-text-fill: white; -fx-font-weight: bold; " +
-                            "-fx-font-size: 16px; -fx-padding: 15 30; -fx-background-radius: 10;"));
-                
-                // Add button to container
-                buttonsBox.getChildren().add(exitButton);
-                
-                // Add all components to content
-                content.getChildren().addAll(gameOverLabel, winnerLabel, winnerNameLabel, buttonsBox);
-                
-                // Add content to game over pane
-                gameOverPane.getChildren().add(content);
-                
-                // Add animations
-                // 1. Pulsing animation for the winner text
-                ScaleTransition pulse = new ScaleTransition(Duration.seconds(1), winnerLabel);
-                pulse.setFromX(1.0);
-                pulse.setFromY(1.0);
-                pulse.setToX(1.1);
-                pulse.setToY(1.1);
-                pulse.setCycleCount(javafx.animation.Animation.INDEFINITE);
-                pulse.setAutoReverse(true);
-                pulse.play();
-                
-                // Add the game over screen to the game table
-                gameTableStack.getChildren().add(gameOverPane);
-                
-                // Fade in animation for the overlay
-                javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(Duration.millis(500), gameOverPane);
-                fadeIn.setFromValue(0);
-                fadeIn.setToValue(1);
-                fadeIn.play();
-            } else {
-                // Fallback to simple navigation if we can't find the game table
-                navigateToMainMenu();
-            }
-        });
+        Platform.runLater(() -> modalOverlay.showGameOver(isPlayerWinner, winnerName, this::navigateToMainMenu));
     }
     
     /**
@@ -1074,20 +1182,15 @@ public class GameController {
      * Navigates back to the main menu.
      */
     private void navigateToMainMenu() {
+        // Stop measuring and release window listeners before the game view is left
+        performanceOverlay.dispose();
+        animationLifecycleManager.dispose();
+        QualityGovernor.getInstance().levelProperty().removeListener(qualityListener);
+        QualityGovernor.getInstance().detach();
+        gamePane.getScene().removePostLayoutPulseListener(feedbackPulseListener);
+        
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/main-menu-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            Stage stage = (Stage) gamePane.getScene().getWindow();
-            stage.setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -1097,51 +1200,8 @@ public class GameController {
      * Exits the game and returns to main menu with confirmation
      */
     private void exitGame() {
-        try {
-            // Show confirmation dialog
-            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(
-                javafx.scene.control.Alert.AlertType.CONFIRMATION,
-                "Are you sure you want to exit the game?",
-                javafx.scene.control.ButtonType.YES,
-                javafx.scene.control.ButtonType.NO
-            );
-            alert.setTitle("Exit Game");
-            alert.setHeaderText(null);
-            
-            // Handle the user's response
-            alert.showAndWait().ifPresent(response -> {
-                if (response == javafx.scene.control.ButtonType.YES) {
-                    navigateToMainMenu();
-                }
-            });
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Finds the game table StackPane in the center of the grid.
-     * 
-     * @return The game table StackPane or null if not found
-     */
-    private StackPane findGameTable() {
-        for (javafx.scene.Node node : gamePane.getChildren()) {
-            if (node instanceof GridPane) {
-                GridPane gridPane = (GridPane) node;
-                for (javafx.scene.Node child : gridPane.getChildren()) {
-                    // Find the center stack pane
-                    Integer colIndex = GridPane.getColumnIndex(child);
-                    Integer rowIndex = GridPane.getRowIndex(child);
-                    
-                    if (colIndex != null && rowIndex != null && colIndex == 1 && rowIndex == 1) {
-                        if (child instanceof StackPane) {
-                            return (StackPane) child;
-                        }
-                    }
-                }
-            }
-        }
-        return null;
+        // Show the confirmation on the overlay layer
+        modalOverlay.showConfirmation("Are you sure you want to exit the game?", this::navigateToMainMenu);
     }
     
     /**
@@ -1303,4 +1363,32 @@ public class GameController {
             finishCardPlay(cardView, card);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Gets the game model. Used by the rendering benchmark to script the human player's turns.
+     * 
+     * @return The current game, or null before the game is initialized
+     */
+    Game getGame() {
+        return game;
+    }
+    
+    /**
+     * Gets the modal overlay layer. Used by the rendering benchmark to answer the color picker.
+     * 
+     * @return The modal overlay layer
+     */
+    ModalOverlayLayer getModalOverlay() {
+        return modalOverlay;
+    }
+    
+    /**
+     * Gets the view showing a card in the human player's hand.
+     * 
+     * @param card The card in the hand
+     * @return The card view, or null if the card is not in the hand
+     */
+    StackPane getHandCardView(Card card) {
+        return handView.reveal(card);
+    }
+}
@@ -1,24 +1,15 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
 
 import java.io.IOException;
-import java.net.URL;
 
-import javafx.animation.FadeTransition;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
-import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
-import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the game mode selection view.
@@ -77,34 +68,14 @@ public class GameModeController {
      */
     private void startGame(int playerCount) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/game-view.fxml"));
-            Parent root = loader.load();
-            
-            GameController controller = loader.getController();
+            GameController controller = ViewManager.getInstance().show(ViewManager.View.GAME);
             
             // Initialize the game with the selected player count
             controller.initializeGame("Normal", playerCount - 1, 7);
             
-            Scene scene = new Scene(root);
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add keyboard shortcuts for full screen
-            Stage stage = (Stage) gameModePane.getScene().getWindow();
+            Stage stage = ViewManager.getInstance().getStage();
             stage.setMinWidth(800);
             stage.setMinHeight(600);
-            
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                }
-            });
-            
-            stage.setScene(scene);
         } catch (Exception e) {
             showAlert(Alert.AlertType.ERROR, "Game Error", 
                     "Could not start the game: " + e.getMessage());
@@ -118,26 +89,7 @@ public class GameModeController {
      */
     private void backToMainMenu() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/main-menu-view.fxml"));
-            Scene scene = new Scene(loader.load(), AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Set up scene and keyboard shortcuts
-            Stage stage = (Stage) gameModePane.getScene().getWindow();
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                }
-            });
-            
-            stage.setScene(scene);
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
         } catch (IOException e) {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
@@ -0,0 +1,482 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import metu.ceng.ceng453_20242_group3_frontend.app.StandInBackend;
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Card;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Game;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Player;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationClock;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.CardRenderer;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.QualityGovernor;
+
+/**
+ * Rendering benchmark for the game view that runs without a display.
+ * Loads game-view.fxml with its GameController and plays scripted games in which the human
+ * player always plays its first playable card or draws. For every human turn it records how long
+ * updateUI takes, how many nodes the view holds, how much the JavaFX thread allocates and how
+ * long the scene's pulses take, and writes the results as JSON.
+ * Animations run in instant mode and the quality level is pinned to HIGH unless "uno.quality"
+ * is set. The run is configured with the "uno.benchmarkGames", "uno.benchmarkAiPlayers",
+ * "uno.benchmarkInitialCards" and "uno.benchmarkOutput" system properties.
+ * The game start and end calls go to a local stand-in for the backend, so runs neither depend on
+ * nor add games to the real server.
+ * Use the "benchmark" Maven profile to run it headless on Monocle.
+ */
+public final class GameRenderBenchmark {
+
+    private static final String GAME_VIEW = "/metu/ceng/ceng453_20242_group3_frontend/game-view.fxml";
+    private static final String STYLESHEET = "/metu/ceng/ceng453_20242_group3_frontend/css/imports.css";
+
+    // Turns after which an unfinished game is abandoned
+    private static final int MAX_TURNS_PER_GAME = 400;
+
+    // Frames to wait for the AI players before a game counts as stalled
+    private static final int MAX_WAIT_FRAMES = 600;
+
+    /**
+     * Values recorded for every human turn.
+     */
+    private enum Metric {
+        UPDATE_UI_MS,
+        NODES,
+        ALLOCATED_BYTES,
+        PULSE_MS
+    }
+
+    private final int gameCount;
+    private final int aiPlayerCount;
+    private final int initialCardCount;
+    private final String output;
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final Map<Metric, List<Double>> samples = new EnumMap<>(Metric.class);
+    private final List<Map<String, Object>> gameResults = new ArrayList<>();
+    private final List<Map<String, Object>> turnResults = new ArrayList<>();
+
+    private final AnimationTimer driver = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            try {
+                step();
+            } catch (Exception e) {
+                System.err.println("Benchmark failed: " + e.getMessage());
+                e.printStackTrace();
+                finish(e.toString());
+            }
+        }
+    };
+
+    private Stage stage;
+    private Scene scene;
+    private GameController controller;
+
+    // State of the current game
+    private int gameIndex = 0;
+    private int turnIndex = 0;
+    private int waitFrames = 0;
+    private double fxmlLoadMs = 0;
+    private double initializeGameMs = 0;
+
+    // State of the current turn
+    private boolean turnOpen = false;
+    private String turnAction;
+    private double turnUpdateUiMs;
+    private int turnNodes;
+    private long turnStartAllocated;
+    private int turnPulses;
+    private double turnPulseTotalMs;
+    private double turnPulseMaxMs;
+    private long pulseStartNanos = 0;
+
+    private GameRenderBenchmark(int gameCount, int aiPlayerCount, int initialCardCount, String output) {
+        this.gameCount = gameCount;
+        this.aiPlayerCount = aiPlayerCount;
+        this.initialCardCount = initialCardCount;
+        this.output = output;
+        for (Metric metric : Metric.values()) {
+            samples.put(metric, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Starts the JavaFX toolkit and runs the benchmark.
+     *
+     * @param args Not used; the run is configured with system properties
+     */
+    public static void main(String[] args) throws IOException {
+        // Point the game controller at the stand-in before the configuration is loaded
+        StandInBackend backend = new StandInBackend();
+        backend.route("/api/game/start", "{\"data\":1}");
+        backend.route("/api/game/end", "{\"data\":null}");
+        backend.start();
+        System.setProperty("uno.apiBaseUrl", "http://127.0.0.1:" + backend.getPort() + "/api");
+
+        // Compare runs at a fixed rendering level instead of whatever the governor settles on
+        if (System.getProperty("uno.quality") == null) {
+            System.setProperty("uno.quality", QualityGovernor.QualityLevel.HIGH.name());
+        }
+
+        GameRenderBenchmark benchmark = new GameRenderBenchmark(
+                Integer.getInteger("uno.benchmarkGames", 5),
+                Integer.getInteger("uno.benchmarkAiPlayers", 3),
+                Integer.getInteger("uno.benchmarkInitialCards", AppConfig.INITIAL_CARDS_PER_PLAYER),
+                System.getProperty("uno.benchmarkOutput", "target/render-benchmark.json"));
+
+        Platform.setImplicitExit(false);
+        Platform.startup(benchmark::start);
+    }
+
+    private void start() {
+        // Scheduled AI moves run on the next pulse, so a game takes seconds
+        AnimationClock.getInstance().setInstant(true);
+
+        stage = new Stage();
+        stage.setTitle(AppConfig.GAME_TITLE + " - rendering benchmark");
+
+        try {
+            startGame();
+        } catch (IOException e) {
+            System.err.println("Could not load the game view: " + e.getMessage());
+            finish(e.toString());
+            return;
+        }
+        driver.start();
+    }
+
+    /**
+     * Loads a fresh game view and deals a new game.
+     */
+    private void startGame() throws IOException {
+        long startNanos = System.nanoTime();
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(GAME_VIEW));
+        Parent root = loader.load();
+        controller = loader.getController();
+        fxmlLoadMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+        startNanos = System.nanoTime();
+        controller.initializeGame("Normal", aiPlayerCount, initialCardCount);
+        initializeGameMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+        if (scene == null) {
+            scene = new Scene(root, AppConfig.WINDOW_WIDTH, AppConfig.WINDOW_HEIGHT);
+            URL cssUrl = getClass().getResource(STYLESHEET);
+            if (cssUrl != null) {
+                scene.getStylesheets().add(cssUrl.toExternalForm());
+            }
+
+            // CSS and layout run between these two listeners
+            scene.addPreLayoutPulseListener(() -> pulseStartNanos = System.nanoTime());
+            scene.addPostLayoutPulseListener(this::onPulseEnd);
+
+            stage.setScene(scene);
+            stage.show();
+        } else {
+            // The previous controller detaches itself once its view leaves the scene
+            scene.setRoot(root);
+        }
+
+        turnIndex = 0;
+        waitFrames = 0;
+        turnOpen = false;
+    }
+
+    /**
+     * Advances the scripted game by at most one human action per frame.
+     */
+    private void step() throws IOException {
+        Game game = controller.getGame();
+
+        if (game.isGameEnded()) {
+            closeTurn();
+            finishGame(game, false);
+            return;
+        }
+
+        if (game.getCurrentPlayerIndex() != 0) {
+            // The AI players are moving
+            if (++waitFrames > MAX_WAIT_FRAMES) {
+                closeTurn();
+                finishGame(game, true);
+            }
+            return;
+        }
+        waitFrames = 0;
+
+        closeTurn();
+        if (turnIndex >= MAX_TURNS_PER_GAME) {
+            finishGame(game, true);
+            return;
+        }
+        openTurn();
+        playHumanTurn(game);
+    }
+
+    /**
+     * Plays the first playable card of the human player, or draws if there is none.
+     */
+    private void playHumanTurn(Game game) {
+        Player human = game.getPlayers().get(0);
+        game.updatePlayableCards();
+
+        Card cardToPlay = null;
+        for (Card card : human.getHand()) {
+            if (game.isDiscardPileEmpty() || card.isPlayable()) {
+                cardToPlay = card;
+                break;
+            }
+        }
+
+        if (cardToPlay == null) {
+            turnAction = "draw";
+            controller.drawCard();
+            return;
+        }
+
+        turnAction = cardToPlay.isWildCard() ? "play-wild" : "play";
+        StackPane cardView = controller.getHandCardView(cardToPlay);
+        if (cardView == null) {
+            cardView = CardRenderer.createCardView(cardToPlay);
+        }
+        controller.playCard(cardView, cardToPlay);
+
+        if (controller.getModalOverlay().isShowing()) {
+            controller.getModalOverlay().selectColor(mostCommonColor(human.getHand()));
+        }
+    }
+
+    private void openTurn() {
+        turnOpen = true;
+        turnIndex++;
+        turnPulses = 0;
+        turnPulseTotalMs = 0;
+        turnPulseMaxMs = 0;
+        turnStartAllocated = allocatedBytes();
+
+        long startNanos = System.nanoTime();
+        controller.updateUI();
+        turnUpdateUiMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+        turnNodes = countNodes(scene.getRoot());
+    }
+
+    /**
+     * Records the turn that ran since the human player's last action, covering the AI moves too.
+     */
+    private void closeTurn() {
+        if (!turnOpen) {
+            return;
+        }
+        turnOpen = false;
+
+        long allocated = turnStartAllocated >= 0 ? allocatedBytes() - turnStartAllocated : -1;
+
+        Map<String, Object> turn = new LinkedHashMap<>();
+        turn.put("game", gameIndex + 1);
+        turn.put("turn", turnIndex);
+        turn.put("action", turnAction);
+        turn.put("updateUiMs", round(turnUpdateUiMs));
+        turn.put("nodes", turnNodes);
+        turn.put("allocatedBytes", allocated);
+        turn.put("pulses", turnPulses);
+        turn.put("avgPulseMs", round(turnPulses > 0 ? turnPulseTotalMs / turnPulses : 0));
+        turn.put("maxPulseMs", round(turnPulseMaxMs));
+        turnResults.add(turn);
+
+        samples.get(Metric.UPDATE_UI_MS).add(turnUpdateUiMs);
+        samples.get(Metric.NODES).add((double) turnNodes);
+        if (allocated >= 0) {
+            samples.get(Metric.ALLOCATED_BYTES).add((double) allocated);
+        }
+    }
+
+    private void onPulseEnd() {
+        if (pulseStartNanos == 0) {
+            return;
+        }
+        double pulseMs = (System.nanoTime() - pulseStartNanos) / 1_000_000.0;
+        pulseStartNanos = 0;
+
+        samples.get(Metric.PULSE_MS).add(pulseMs);
+        if (turnOpen) {
+            turnPulses++;
+            turnPulseTotalMs += pulseMs;
+            turnPulseMaxMs = Math.max(turnPulseMaxMs, pulseMs);
+        }
+    }
+
+    private void finishGame(Game game, boolean stalled) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("game", gameIndex + 1);
+        result.put("turns", turnIndex);
+        result.put("stalled", stalled);
+        result.put("winner", game.getWinner() != null ? game.getWinner().getName() : null);
+        result.put("fxmlLoadMs", round(fxmlLoadMs));
+        result.put("initializeGameMs", round(initializeGameMs));
+        gameResults.add(result);
+        System.out.println("Benchmark game " + (gameIndex + 1) + "/" + gameCount + " finished after " + turnIndex + " turns");
+
+        gameIndex++;
+        if (gameIndex < gameCount) {
+            startGame();
+        } else {
+            finish(null);
+        }
+    }
+
+    /**
+     * Writes the results and shuts the toolkit down.
+     *
+     * @param error A description of the failure, or null if the run completed
+     */
+    private void finish(String error) {
+        driver.stop();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javafxVersion", System.getProperty("javafx.runtime.version"));
+        report.put("glassPlatform", System.getProperty("glass.platform", "default"));
+        report.put("prismOrder", System.getProperty("prism.order", "default"));
+        report.put("quality", QualityGovernor.getInstance().getLevel().name());
+        report.put("aiPlayers", aiPlayerCount);
+        report.put("initialCards", initialCardCount);
+        report.put("gamesRequested", gameCount);
+        report.put("error", error);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("turns", turnResults.size());
+        summary.put("updateUiMs", describe(samples.get(Metric.UPDATE_UI_MS)));
+        summary.put("nodes", describe(samples.get(Metric.NODES)));
+        summary.put("allocatedBytesPerTurn", describe(samples.get(Metric.ALLOCATED_BYTES)));
+        summary.put("pulseMs", describe(samples.get(Metric.PULSE_MS)));
+        report.put("summary", summary);
+        report.put("games", gameResults);
+        report.put("turnSamples", turnResults);
+
+        int exitCode = error == null ? 0 : 1;
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            if ("-".equals(output)) {
+                System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+            } else {
+                Path path = Paths.get(output);
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+                System.out.println("Benchmark results written to " + path.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write benchmark results: " + e.getMessage());
+            exitCode = 1;
+        }
+
+        if (stage != null) {
+            stage.hide();
+        }
+        Platform.exit();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Gets the bytes allocated so far by the JavaFX thread.
+     *
+     * @return The allocated bytes, or -1 if the JVM does not report them
+     */
+    private long allocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Picks the color the human player holds most of, for wild cards.
+     */
+    private static CardColor mostCommonColor(List<Card> hand) {
+        Map<CardColor, Integer> counts = new EnumMap<>(CardColor.class);
+        for (Card card : hand) {
+            if (card.getColor().isStandardColor()) {
+                counts.merge(card.getColor(), 1, Integer::sum);
+            }
+        }
+
+        CardColor best = CardColor.RED;
+        int bestCount = 0;
+        for (Map.Entry<CardColor, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > bestCount) {
+                best = entry.getKey();
+                bestCount = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Summarizes samples as count, mean, median, 95th percentile and maximum.
+     */
+    private static Map<String, Object> describe(List<Double> values) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("count", values.size());
+        if (values.isEmpty()) {
+            return description;
+        }
+
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        double total = 0;
+        for (double value : sorted) {
+            total += value;
+        }
+
+        description.put("mean", round(total / sorted.size()));
+        description.put("p50", round(percentile(sorted, 0.50)));
+        description.put("p95", round(percentile(sorted, 0.95)));
+        description.put("max", round(sorted.get(sorted.size() - 1)));
+        return description;
+    }
+
+    private static double percentile(List<Double> sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -6,9 +6,6 @@ import javafx.animation.Timeline;
 import javafx.scene.Node;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
-import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
@@ -16,6 +13,8 @@ import javafx.util.Duration;
 import java.util.List;
 
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Game;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.AnimationLifecycleManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.view.GameViewRegistry;
 
 /**
  * Handles game table animations and visual effects.
@@ -26,7 +25,8 @@ public class GameTableController {
     private final HBox rightPlayerArea;
     private final VBox topPlayerArea;
     private final VBox bottomPlayerArea;
-    private final Pane gamePane;
+    private final GameViewRegistry viewRegistry;
+    private final AnimationLifecycleManager lifecycleManager;
     
     // Store player area animations for control
     private Timeline[] playerAnimations;
@@ -37,19 +37,16 @@ public class GameTableController {
     /**
      * Creates a new game table controller.
      * 
-     * @param gamePane The game pane
-     * @param topPlayerArea The top player area
-     * @param leftPlayerArea The left player area
-     * @param rightPlayerArea The right player area
-     * @param bottomPlayerArea The bottom player area
+     * @param viewRegistry The registry of game view nodes
+     * @param lifecycleManager The manager that pauses the pulses when they are not visible
      */
-    public GameTableController(Pane gamePane, VBox topPlayerArea, HBox leftPlayerArea, 
-                               HBox rightPlayerArea, VBox bottomPlayerArea) {
-        this.gamePane = gamePane;
-        this.topPlayerArea = topPlayerArea;
-        this.leftPlayerArea = leftPlayerArea;
-        this.rightPlayerArea = rightPlayerArea;
-        this.bottomPlayerArea = bottomPlayerArea;
+    public GameTableController(GameViewRegistry viewRegistry, AnimationLifecycleManager lifecycleManager) {
+        this.viewRegistry = viewRegistry;
+        this.lifecycleManager = lifecycleManager;
+        this.topPlayerArea = viewRegistry.getTopPlayerArea();
+        this.leftPlayerArea = viewRegistry.getLeftPlayerArea();
+        this.rightPlayerArea = viewRegistry.getRightPlayerArea();
+        this.bottomPlayerArea = viewRegistry.getBottomPlayerArea();
         
         // Initialize animations
         setupGameTableAnimations();
@@ -70,8 +67,8 @@ public class GameTableController {
             bottomPlayerAnimation, topPlayerAnimation, leftPlayerAnimation, rightPlayerAnimation
         };
         
-        // Find the game table element
-        Node gameTable = findGameTable();
+        // Get the game table element
+        Node gameTable = viewRegistry.getGameTable();
         
         // Create the table animation if the table was found
         if (gameTable != null) {
@@ -81,41 +78,6 @@ public class GameTableController {
         }
     }
     
-    /**
-     * Finds the game table element in the scene graph
-     * 
-     * @return The game table node or null if not found
-     */
-    private Node findGameTable() {
-        // Look through the StackPane in the center of the grid
-        for (Node node : gamePane.getChildrenUnmodifiable()) {
-            if (node instanceof GridPane) {
-                GridPane gridPane = (GridPane) node;
-                
-                for (Node child : gridPane.getChildren()) {
-                    // Find the center stack pane
-                    Integer colIndex = GridPane.getColumnIndex(child);
-                    Integer rowIndex = GridPane.getRowIndex(child);
-                    
-                    if (colIndex != null && rowIndex != null && colIndex == 1 && rowIndex == 1) {
-                        if (child instanceof StackPane) {
-                            StackPane centerPane = (StackPane) child;
-                            
-                            // Find the game table inside the stack pane
-                            for (Node tableCandidate : centerPane.getChildren()) {
-                                if (tableCandidate instanceof StackPane &&
-                                    tableCandidate.getStyleClass().contains("game-table")) {
-                                    return tableCandidate;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return null;
-    }
-    
     /**
      * Creates a pulsing animation for a node
      * 
@@ -154,7 +116,7 @@ public class GameTableController {
         // This prevents a common JavaFX issue where animations get out of sync
         pulseAnimation.stop();
         
-        return pulseAnimation;
+        return lifecycleManager.registerDecorative(pulseAnimation);
     }
     
     /**
@@ -181,8 +143,8 @@ public class GameTableController {
         leftPlayerArea.setEffect(new DropShadow(10, Color.rgb(0, 0, 0, 0.7)));
         rightPlayerArea.setEffect(new DropShadow(10, Color.rgb(0, 0, 0, 0.7)));
         
-        // Find the game table element and reset its appearance too
-        Node gameTable = findGameTable();
+        // Reset the game table's appearance too
+        Node gameTable = viewRegistry.getGameTable();
         if (gameTable != null) {
             gameTable.setEffect(new DropShadow(10, Color.rgb(0, 0, 0, 0.7)));
         }
@@ -243,9 +205,9 @@ public class GameTableController {
                 rightPlayerArea.setVisible(false);
                 
                 if (!aiPlayerNames.isEmpty()) {
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(0));
+                    viewRegistry.getTopPlayerNameLabel().setText(aiPlayerNames.get(0));
                 } else {
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText("Opponent 1");
+                    viewRegistry.getTopPlayerNameLabel().setText("Opponent 1");
                 }
                 break;
                 
@@ -256,11 +218,11 @@ public class GameTableController {
                 
                 if (aiPlayerNames.size() >= 2) {
                     // Player 1 at right, Player 2 at top (counterclockwise from player)
-                    ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(0));
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(1));
+                    viewRegistry.getRightPlayerNameLabel().setText(aiPlayerNames.get(0));
+                    viewRegistry.getTopPlayerNameLabel().setText(aiPlayerNames.get(1));
                 } else {
-                    ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setText("Opponent 1");
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText("Opponent 2");
+                    viewRegistry.getRightPlayerNameLabel().setText("Opponent 1");
+                    viewRegistry.getTopPlayerNameLabel().setText("Opponent 2");
                 }
                 break;
                 
@@ -271,13 +233,13 @@ public class GameTableController {
                 
                 if (aiPlayerNames.size() >= 3) {
                     // Player 1 at right, Player 2 at top, Player 3 at left (counterclockwise from player)
-                    ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(0));
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(1));
-                    ((javafx.scene.control.Label)leftPlayerArea.lookup(".player-name-label")).setText(aiPlayerNames.get(2));
+                    viewRegistry.getRightPlayerNameLabel().setText(aiPlayerNames.get(0));
+                    viewRegistry.getTopPlayerNameLabel().setText(aiPlayerNames.get(1));
+                    viewRegistry.getLeftPlayerNameLabel().setText(aiPlayerNames.get(2));
                 } else {
-                    ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setText("Opponent 1");
-                    ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText("Opponent 2");
-                    ((javafx.scene.control.Label)leftPlayerArea.lookup(".player-name-label")).setText("Opponent 3");
+                    viewRegistry.getRightPlayerNameLabel().setText("Opponent 1");
+                    viewRegistry.getTopPlayerNameLabel().setText("Opponent 2");
+                    viewRegistry.getLeftPlayerNameLabel().setText("Opponent 3");
                 }
                 break;
                 
@@ -286,7 +248,7 @@ public class GameTableController {
                 leftPlayerArea.setVisible(false);
                 rightPlayerArea.setVisible(false);
                 
-                ((javafx.scene.control.Label)topPlayerArea.lookup(".player-name-label")).setText("Opponent 1");
+                viewRegistry.getTopPlayerNameLabel().setText("Opponent 1");
                 break;
         }
         
@@ -297,18 +259,18 @@ public class GameTableController {
         // Make invisible areas transparent instead of completely hiding them
         if (!leftPlayerArea.isVisible()) {
             leftPlayerArea.setOpacity(0);
-            ((javafx.scene.control.Label)leftPlayerArea.lookup(".player-name-label")).setOpacity(0);
+            viewRegistry.getLeftPlayerNameLabel().setOpacity(0);
         } else {
             leftPlayerArea.setOpacity(1);
-            ((javafx.scene.control.Label)leftPlayerArea.lookup(".player-name-label")).setOpacity(1);
+            viewRegistry.getLeftPlayerNameLabel().setOpacity(1);
         }
         
         if (!rightPlayerArea.isVisible()) {
             rightPlayerArea.setOpacity(0);
-            ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setOpacity(0);
+            viewRegistry.getRightPlayerNameLabel().setOpacity(0);
         } else {
             rightPlayerArea.setOpacity(1);
-            ((javafx.scene.control.Label)rightPlayerArea.lookup(".player-name-label")).setOpacity(1);
+            viewRegistry.getRightPlayerNameLabel().setOpacity(1);
         }
         
         // Set initial game direction to counter-clockwise
@@ -1,29 +1,21 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.controller;
 
 import java.io.IOException;
-import java.net.URL;
 
-import javafx.animation.FadeTransition;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.stage.Stage;
-import javafx.util.Duration;
 import metu.ceng.ceng453_20242_group3_frontend.features.auth.service.AuthService;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 
 /**
  * Controller for the main menu view.
  */
-public class MainMenuController {
+public class MainMenuController implements ViewManager.ShowListener {
     
     @FXML
     private Label welcomeLabel;
@@ -63,38 +55,6 @@ public class MainMenuController {
     @FXML
     private void initialize() {
         try {
-            // Update welcome message with the username
-            if (SessionManager.getInstance().isLoggedIn()) {
-                // Debug output to verify user session
-                System.out.println("===== Main Menu Loaded =====");
-                System.out.println("User: " + SessionManager.getInstance().getCurrentUser().getUsername());
-                System.out.println("Token: " + SessionManager.getInstance().getAuthToken());
-                System.out.println("===========================");
-                
-                String username = SessionManager.getInstance().getCurrentUser().getUsername();
-                welcomeLabel.setText("Welcome, " + username + "!");
-                
-                // Update debug label
-                if (tokenDebugLabel != null) {
-                    String token = SessionManager.getInstance().getAuthToken();
-                    String refreshToken = SessionManager.getInstance().getRefreshToken();
-                    
-                    StringBuilder sb = new StringBuilder();
-                    if (token != null) {
-                        sb.append("Token: ").append(token.substring(0, 20)).append("...\n\n");
-                    }
-                    
-                    if (refreshToken != null) {
-                        sb.append("Refresh: ").append(refreshToken.substring(0, 20)).append("...");
-                    }
-                    
-                    tokenDebugLabel.setText(sb.toString());
-                }
-            } else {
-                System.out.println("Warning: Reached main menu without logging in!");
-                welcomeLabel.setText("Not logged in!");
-            }
-            
             // Set up event handlers
             playButton.setOnAction(event -> startGame());
             leaderboardButton.setOnAction(event -> showLeaderboard());
@@ -111,6 +71,47 @@ public class MainMenuController {
         }
     }
     
+    /**
+     * Shows the current user's session each time the menu is shown, since the view is reused,
+     * and parses the views reachable from the menu in the background.
+     */
+    @Override
+    public void onViewShown() {
+        // Update welcome message with the username
+        if (SessionManager.getInstance().isLoggedIn()) {
+            // Debug output to verify user session
+            System.out.println("===== Main Menu Loaded =====");
+            System.out.println("User: " + SessionManager.getInstance().getCurrentUser().getUsername());
+            System.out.println("Token: " + SessionManager.getInstance().getAuthToken());
+            System.out.println("===========================");
+            
+            String username = SessionManager.getInstance().getCurrentUser().getUsername();
+            welcomeLabel.setText("Welcome, " + username + "!");
+            
+            // Update debug label
+            if (tokenDebugLabel != null) {
+                String token = SessionManager.getInstance().getAuthToken();
+                String refreshToken = SessionManager.getInstance().getRefreshToken();
+                
+                StringBuilder sb = new StringBuilder();
+                if (token != null) {
+                    sb.append("Token: ").append(token.substring(0, 20)).append("...\n\n");
+                }
+                
+                if (refreshToken != null) {
+                    sb.append("Refresh: ").append(refreshToken.substring(0, 20)).append("...");
+                }
+                
+                tokenDebugLabel.setText(sb.toString());
+            }
+        } else {
+            System.out.println("Warning: Reached main menu without logging in!");
+            welcomeLabel.setText("Not logged in!");
+        }
+        
+        ViewManager.getInstance().preload(ViewManager.View.GAME_MODE, ViewManager.View.GAME, ViewManager.View.LEADERBOARD);
+    }
+    
     /**
      * Toggles the visibility of the debug section.
      */
@@ -128,41 +129,8 @@ public class MainMenuController {
      */
     private void startGame() {
         try {
-            // Load the game mode selection view instead of directly going to game view
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/game-mode-view.fxml"));
-            Parent root = loader.load();
-            
-            // Get the current stage
-            Stage stage = (Stage) mainMenuPane.getScene().getWindow();
-            
-            // Set the new scene
-            Scene gameModeScene = new Scene(root);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                gameModeScene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add keyboard shortcuts for full screen in game scene
-            gameModeScene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                }
-            });
-            
-            // Apply fade transition for smooth navigation
-            root.setOpacity(0);
-            stage.setScene(gameModeScene);
-            
-            // Create and play fade-in transition
-            FadeTransition fadeIn = new FadeTransition(Duration.millis(400), root);
-            fadeIn.setFromValue(0.0);
-            fadeIn.setToValue(1.0);
-            fadeIn.play();
-            
+            // Show the game mode selection view instead of directly going to game view
+            ViewManager.getInstance().show(ViewManager.View.GAME_MODE);
             System.out.println("Navigating to game mode selection...");
         } catch (IOException e) {
             System.err.println("Error navigating to game mode view: " + e.getMessage());
@@ -177,29 +145,7 @@ public class MainMenuController {
      */
     private void showLeaderboard() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/leaderboard-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add the fade transition class
-            root.getStyleClass().add("fade-transition");
-            
-            Stage stage = (Stage) mainMenuPane.getScene().getWindow();
-            stage.setScene(scene);
-            
-            // Animate the fade in
-            Platform.runLater(() -> {
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), root);
-                fadeIn.setFromValue(0.0);
-                fadeIn.setToValue(1.0);
-                fadeIn.play();
-            });
-            
+            ViewManager.getInstance().show(ViewManager.View.LEADERBOARD);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not open leaderboard: " + e.getMessage());
@@ -222,27 +168,9 @@ public class MainMenuController {
         authService.logout();
         
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/login-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add keyboard shortcuts for full screen in login scene
-            Stage stage = (Stage) mainMenuPane.getScene().getWindow();
-            scene.setOnKeyPressed(e -> {
-                if (e.getCode() == KeyCode.F11) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                } else if (e.getCode() == KeyCode.ENTER && e.isAltDown()) {
-                    stage.setFullScreen(!stage.isFullScreen());
-                }
-            });
-            
-            stage.setScene(scene);
+            // Nothing built for this user should be shown to the next one
+            ViewManager.getInstance().clear();
+            ViewManager.getInstance().show(ViewManager.View.LOGIN);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not navigate to login page: " + e.getMessage());
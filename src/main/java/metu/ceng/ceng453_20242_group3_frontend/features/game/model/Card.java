@@ -1,11 +1,22 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.model;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
  * Represents a UNO card with a color, type, and value.
  */
 public class Card {
+    /**
+     * Order of a sorted hand: by color with wild cards last, then number cards by value,
+     * then action cards.
+     */
+    public static final Comparator<Card> HAND_ORDER = Comparator
+            .comparing(Card::getColor) // MULTI is declared last
+            .thenComparing(Card::isActionCard)
+            .thenComparingInt(Card::getValue)
+            .thenComparing(Card::getAction);
+
     private final CardColor color;
     private final CardType type;
     private final CardAction action;
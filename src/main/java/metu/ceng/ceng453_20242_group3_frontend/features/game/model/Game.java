@@ -848,11 +848,14 @@ public class Game {
             System.out.println("Player " + currentPlayer.getName() + " is drawing " + 
                     cardsToDraw + " cards due to stacked Draw Two");
             
-            // Draw all the required cards
+            // Draw all the required cards, remembering the last one, since a sorted hand
+            // inserts each card at its sorted position rather than at the end
+            Card lastDrawn = null;
             for (int i = 0; i < cardsToDraw; i++) {
                 Card stackCard = drawCard();
                 if (stackCard != null) {
                     currentPlayer.addCard(stackCard);
+                    lastDrawn = stackCard;
                 }
             }
             
@@ -863,7 +866,7 @@ public class Game {
             updatePlayableCards();
             
             // Return the last drawn card (for UI feedback)
-            return currentPlayer.getHand().get(currentPlayer.getHand().size() - 1);
+            return lastDrawn;
         }
         
         // Normal drawing (single card)
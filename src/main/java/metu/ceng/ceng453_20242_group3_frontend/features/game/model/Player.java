@@ -1,6 +1,7 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -12,6 +13,7 @@ public class Player {
     private boolean isAI;
     private boolean hasCalledUno;
     private boolean shouldShowUnoIndicator;
+    private boolean handSorted;
 
     /**
      * Constructor for creating a player.
@@ -48,6 +50,28 @@ public class Player {
         return isAI;
     }
     
+    /**
+     * Checks if the hand is kept sorted.
+     * 
+     * @return true if cards are kept in {@link Card#HAND_ORDER}
+     */
+    public boolean isHandSorted() {
+        return handSorted;
+    }
+    
+    /**
+     * Turns automatic hand sorting on or off.
+     * Turning it on sorts the hand once; after that, added cards are inserted in place.
+     * 
+     * @param handSorted Whether to keep the hand sorted
+     */
+    public void setHandSorted(boolean handSorted) {
+        if (handSorted && !this.handSorted) {
+            hand.sort(Card.HAND_ORDER);
+        }
+        this.handSorted = handSorted;
+    }
+    
     public boolean hasCalledUno() {
         return hasCalledUno;
     }
@@ -84,11 +108,17 @@ public class Player {
 
     /**
      * Adds a card to the player's hand.
+     * In a sorted hand the card is placed by binary search, after any equal cards.
      *
      * @param card The card to add
      */
     public void addCard(Card card) {
-        hand.add(card);
+        if (handSorted) {
+            int index = Collections.binarySearch(hand, card, Card.HAND_ORDER);
+            hand.add(index >= 0 ? insertionPointAfter(index, card) : -(index + 1), card);
+        } else {
+            hand.add(card);
+        }
         
         // Reset UNO declaration if player has more than 1 card
         if (hand.size() > 1) {
@@ -100,6 +130,17 @@ public class Player {
         updateUnoIndicator();
     }
 
+    /**
+     * Finds the position after the run of cards equal to the card at the given index.
+     */
+    private int insertionPointAfter(int index, Card card) {
+        int position = index + 1;
+        while (position < hand.size() && Card.HAND_ORDER.compare(hand.get(position), card) == 0) {
+            position++;
+        }
+        return position;
+    }
+
     /**
      * Removes a card from the player's hand.
      *
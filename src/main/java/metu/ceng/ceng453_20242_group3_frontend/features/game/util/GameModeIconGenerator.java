@@ -1,10 +1,8 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.util;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
@@ -31,24 +29,26 @@ public class GameModeIconGenerator {
     // Size of the icons
     private static final int ICON_SIZE = 240;
     
-    // Directory where icons will be stored
-    private static final String IMAGES_DIR = "src/main/resources/images";
+    // File names of the generated icons
+    private static final String SINGLEPLAYER_ICON_FILE = "singleplayer-icon.png";
+    private static final String MULTIPLAYER_ICON_FILE = "multiplayer-icon.png";
     
     /**
-     * Generates all game mode icons.
-     * This should be called during application initialization.
+     * Generates all game mode icons into the given directory.
+     * Must be called on the JavaFX application thread, since the icons are drawn on canvases.
+     * 
+     * @param imagesPath The directory to write the icons to
      */
-    public static void generateIcons() {
+    public static void generateIcons(Path imagesPath) {
         try {
             // Create the images directory if it doesn't exist
-            Path imagesPath = Paths.get(IMAGES_DIR);
             if (!Files.exists(imagesPath)) {
                 Files.createDirectories(imagesPath);
             }
             
             // Generate the icons
-            generateSinglePlayerIcon();
-            generateMultiPlayerIcon();
+            generateSinglePlayerIcon(imagesPath);
+            generateMultiPlayerIcon(imagesPath);
             
             System.out.println("Game mode icons generated successfully");
         } catch (IOException e) {
@@ -60,7 +60,7 @@ public class GameModeIconGenerator {
     /**
      * Generates the singleplayer icon.
      */
-    private static void generateSinglePlayerIcon() throws IOException {
+    private static void generateSinglePlayerIcon(Path imagesPath) throws IOException {
         // Create a canvas for drawing
         Canvas canvas = new Canvas(ICON_SIZE, ICON_SIZE);
         GraphicsContext gc = canvas.getGraphicsContext2D();
@@ -99,13 +99,13 @@ public class GameModeIconGenerator {
         gc.fillText("1", ICON_SIZE/2, 175);
         
         // Create the image file
-        saveCanvasToFile(canvas, "singleplayer-icon.png");
+        saveCanvasToFile(canvas, imagesPath.resolve(SINGLEPLAYER_ICON_FILE));
     }
     
     /**
      * Generates the multiplayer icon.
      */
-    private static void generateMultiPlayerIcon() throws IOException {
+    private static void generateMultiPlayerIcon(Path imagesPath) throws IOException {
         // Create a canvas for drawing
         Canvas canvas = new Canvas(ICON_SIZE, ICON_SIZE);
         GraphicsContext gc = canvas.getGraphicsContext2D();
@@ -146,16 +146,16 @@ public class GameModeIconGenerator {
         gc.fillText("2+", ICON_SIZE/2, 175);
         
         // Create the image file
-        saveCanvasToFile(canvas, "multiplayer-icon.png");
+        saveCanvasToFile(canvas, imagesPath.resolve(MULTIPLAYER_ICON_FILE));
     }
     
     /**
      * Saves the canvas content to a PNG file.
      * 
      * @param canvas The canvas to save
-     * @param fileName The file name to save as
+     * @param file The file to save to
      */
-    private static void saveCanvasToFile(Canvas canvas, String fileName) throws IOException {
+    private static void saveCanvasToFile(Canvas canvas, Path file) throws IOException {
         // Create a WritableImage from the canvas
         WritableImage image = new WritableImage((int)canvas.getWidth(), (int)canvas.getHeight());
         SnapshotParameters params = new SnapshotParameters();
@@ -163,7 +163,6 @@ public class GameModeIconGenerator {
         canvas.snapshot(params, image);
         
         // Save the image to a file
-        File file = new File(IMAGES_DIR + "/" + fileName);
-        ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", file);
+        ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", file.toFile());
     }
 } 
\ No newline at end of file
@@ -20,23 +20,22 @@ import javax.imageio.ImageIO;
  */
 public class IconGenerator {
 
+    // File name of the generated icon
+    private static final String ICON_FILE = "app_icon.png";
+
     /**
-     * Generates a UNO icon and saves it to the resources directory.
+     * Generates a UNO icon and saves it to the given directory.
+     *
+     * @param imagesDir The directory to write the icon to
      */
-    public static void generateIcon() {
+    public static void generateIcon(Path imagesDir) {
         try {
             // Create directory if it doesn't exist
-            Path imagesDir = Paths.get("src/main/resources/images");
             if (!Files.exists(imagesDir)) {
                 Files.createDirectories(imagesDir);
             }
             
-            // Check if icon already exists
-            Path iconPath = imagesDir.resolve("app_icon.png");
-            if (Files.exists(iconPath)) {
-                System.out.println("Icon already exists at: " + iconPath.toAbsolutePath());
-                return;
-            }
+            Path iconPath = imagesDir.resolve(ICON_FILE);
             
             // Create the icon using Java AWT instead of JavaFX
             BufferedImage image = new BufferedImage(512, 512, BufferedImage.TYPE_INT_ARGB);
@@ -90,6 +89,7 @@ public class IconGenerator {
     }
     
     public static void main(String[] args) {
-        generateIcon();
+        // Regenerates the bundled copy
+        generateIcon(Paths.get("src/main/resources/images"));
     }
 } 
\ No newline at end of file
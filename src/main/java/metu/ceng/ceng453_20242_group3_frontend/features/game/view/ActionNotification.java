@@ -18,12 +18,21 @@ import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
 
 /**
  * A notification component that displays game action messages.
+ * The same instance can be reconfigured and shown again, so notification panes can be pooled.
  */
 public class ActionNotification {
     
     private final StackPane notificationPane;
+    private final Rectangle background;
+    private final HBox content;
+    private final Label textLabel;
+    private final Rectangle icon;
+    private final PauseTransition pause;
     private final SequentialTransition animation;
     
+    // Called when the notification has faded out, instead of removing it from its parent
+    private Runnable onHidden;
+    
     /**
      * Creates a notification with the specified urgency level.
      * 
@@ -40,135 +49,154 @@ public class ActionNotification {
         notificationPane.setOpacity(0); // Start invisible for animation
         
         // Background with rounded corners
-        Rectangle background = new Rectangle(320, 60);
+        background = new Rectangle(320, 60);
         background.setArcWidth(15);
         background.setArcHeight(15);
+        background.setStroke(Color.WHITE);
+        
+        // Create the notification content
+        content = new HBox(15);
+        content.setAlignment(Pos.CENTER_LEFT); // Left-aligned for corner positioning
+        content.setPadding(new Insets(10));
         
+        // Create the notification text
+        textLabel = new Label();
+        textLabel.setWrapText(true);
+        textLabel.setTextAlignment(TextAlignment.LEFT); // Left-aligned text
+        
+        // Icon shown for UNO calls, color changes and playable draws
+        icon = new Rectangle(40, 40);
+        icon.setArcWidth(8);
+        icon.setArcHeight(8);
+        icon.setStroke(Color.WHITE);
+        
+        // Add components to the notification pane
+        notificationPane.getChildren().addAll(background, content);
+        
+        // Create animations
+        FadeTransition fadeIn = new FadeTransition(Duration.millis(300), notificationPane);
+        fadeIn.setFromValue(0);
+        fadeIn.setToValue(1);
+        
+        // Create a pause to show the notification
+        pause = new PauseTransition();
+        
+        // Create the disappearance animation
+        FadeTransition fadeOut = new FadeTransition(Duration.millis(500), notificationPane);
+        fadeOut.setFromValue(1);
+        fadeOut.setToValue(0);
+        
+        // Create the sequential animation
+        animation = AnimationTracker.track(new SequentialTransition(fadeIn, pause, fadeOut));
+        animation.setOnFinished(e -> {
+            if (onHidden != null) {
+                onHidden.run();
+            } else if (notificationPane.getParent() != null) {
+                // Remove the notification from its parent when animation is complete
+                ((javafx.scene.layout.Pane) notificationPane.getParent()).getChildren().remove(notificationPane);
+            }
+        });
+        
+        configure(playerName, actionMessage, isUrgent);
+    }
+    
+    /**
+     * Updates the text, styling and timing of the notification.
+     * 
+     * @param playerName The name of the player performing the action
+     * @param actionMessage The action message to display
+     * @param isUrgent Whether the notification is urgent (affects timing)
+     */
+    public void configure(String playerName, String actionMessage, boolean isUrgent) {
         // Choose background color based on message type
         if (actionMessage.equals("calls UNO!")) {
             // Special UNO call background
             background.setFill(Color.rgb(211, 47, 47, 0.9)); // UNO Red with transparency
-            background.setStroke(Color.WHITE);
             background.setStrokeWidth(2);
         } else if (actionMessage.contains("drew a card and can play it")) {
             // Special notification for AI drawing a playable card
             background.setFill(Color.rgb(67, 160, 71, 0.9)); // Green with transparency
-            background.setStroke(Color.WHITE);
             background.setStrokeWidth(1);
         } else if (actionMessage.contains("can't play") || actionMessage.contains("not your turn") || actionMessage.contains("match")) {
             // Special notification for unplayable cards
             background.setFill(Color.rgb(211, 47, 47, 0.9)); // Red with transparency
-            background.setStroke(Color.WHITE);
             background.setStrokeWidth(2);
         } else {
             // Default notification background
             background.setFill(Color.rgb(33, 33, 33, 0.9)); // Dark gray with transparency
-            background.setStroke(Color.WHITE);
             background.setStrokeWidth(1);
         }
         
-        // Create the notification content
-        HBox content = new HBox(15);
-        content.setAlignment(Pos.CENTER_LEFT); // Left-aligned for corner positioning
-        content.setPadding(new Insets(10));
-        
-        // Create the notification text
-        String displayText = playerName + " " + actionMessage;
-        Label textLabel = new Label(displayText);
-        
         // Style based on urgency
+        textLabel.setText(playerName + " " + actionMessage);
         if (isUrgent) {
             textLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: white;");
         } else {
             textLabel.setStyle("-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: white;");
         }
         
-        textLabel.setWrapText(true);
-        textLabel.setTextAlignment(TextAlignment.LEFT); // Left-aligned text
-        
-        // Only add color indicator for UNO calls and color changes (wild cards)
+        // Only add an icon for UNO calls, color changes (wild cards) and playable draws
         if (actionMessage.contains("UNO")) {
-            // Create action icon for UNO calls
-            Rectangle actionIcon = new Rectangle(40, 40);
-            actionIcon.setArcWidth(8);
-            actionIcon.setArcHeight(8);
-            actionIcon.setFill(Color.RED);
-            actionIcon.setStroke(Color.WHITE);
-            actionIcon.setStrokeWidth(2);
-            
-            content.getChildren().addAll(actionIcon, textLabel);
+            // Action icon for UNO calls
+            icon.setFill(Color.RED);
+            icon.setStrokeWidth(2);
+            content.getChildren().setAll(icon, textLabel);
         } else if (actionMessage.contains("color is now")) {
             // This is a wild card with color change notification
             String colorName = actionMessage.substring(actionMessage.lastIndexOf("color is now") + 13).trim();
             
-            // Create color indicator for wild cards
-            Rectangle colorIndicator = new Rectangle(40, 40);
-            colorIndicator.setArcWidth(8);
-            colorIndicator.setArcHeight(8);
-            
             // Set color based on the specified color name
             switch (colorName) {
                 case "RED":
-                    colorIndicator.setFill(Color.rgb(227, 35, 35)); // UNO Red
+                    icon.setFill(Color.rgb(227, 35, 35)); // UNO Red
                     break;
                 case "GREEN":
-                    colorIndicator.setFill(Color.rgb(12, 180, 87)); // UNO Green
+                    icon.setFill(Color.rgb(12, 180, 87)); // UNO Green
                     break;
                 case "BLUE":
-                    colorIndicator.setFill(Color.rgb(35, 110, 235)); // UNO Blue
+                    icon.setFill(Color.rgb(35, 110, 235)); // UNO Blue
                     break;
                 case "YELLOW":
-                    colorIndicator.setFill(Color.rgb(240, 196, 0)); // UNO Yellow
+                    icon.setFill(Color.rgb(240, 196, 0)); // UNO Yellow
                     break;
                 default:
-                    colorIndicator.setFill(Color.GRAY);
+                    icon.setFill(Color.GRAY);
                     break;
             }
             
-            colorIndicator.setStroke(Color.WHITE);
-            colorIndicator.setStrokeWidth(1);
-            
-            content.getChildren().addAll(colorIndicator, textLabel);
+            icon.setStrokeWidth(1);
+            content.getChildren().setAll(icon, textLabel);
         } else if (actionMessage.contains("drew a card and can play it")) {
             // Special notification for AI drawing a playable card
-            Rectangle cardDrawnIcon = new Rectangle(40, 40);
-            cardDrawnIcon.setArcWidth(8);
-            cardDrawnIcon.setArcHeight(8);
-            cardDrawnIcon.setFill(Color.rgb(50, 205, 50)); // Green for good luck/success
-            cardDrawnIcon.setStroke(Color.WHITE);
-            cardDrawnIcon.setStrokeWidth(2);
-            
-            content.getChildren().addAll(cardDrawnIcon, textLabel);
+            icon.setFill(Color.rgb(50, 205, 50)); // Green for good luck/success
+            icon.setStrokeWidth(2);
+            content.getChildren().setAll(icon, textLabel);
         } else {
             // For all other actions (Skip, Reverse, Draw), just show the text without an icon
-            content.getChildren().add(textLabel);
+            content.getChildren().setAll(textLabel);
         }
         
-        // Add components to the notification pane
-        notificationPane.getChildren().addAll(background, content);
-        
-        // Create animations
-        // Urgent notifications use different animation timing
-        FadeTransition fadeIn = new FadeTransition(Duration.millis(300), notificationPane);
-        fadeIn.setFromValue(0);
-        fadeIn.setToValue(1);
-        
-        // Create a pause to show the notification
-        PauseTransition pause = new PauseTransition(Duration.seconds(isUrgent ? 3.5 : 2.5));
-        
-        // Create the disappearance animation
-        FadeTransition fadeOut = new FadeTransition(Duration.millis(500), notificationPane);
-        fadeOut.setFromValue(1);
-        fadeOut.setToValue(0);
-        
-        // Create the sequential animation
-        animation = new SequentialTransition(fadeIn, pause, fadeOut);
-        animation.setOnFinished(e -> {
-            // Remove the notification from its parent when animation is complete
-            if (notificationPane.getParent() != null) {
-                ((javafx.scene.layout.Pane) notificationPane.getParent()).getChildren().remove(notificationPane);
-            }
-        });
+        // Urgent notifications stay on screen longer
+        pause.setDuration(Duration.seconds(isUrgent ? 3.5 : 2.5));
+    }
+    
+    /**
+     * Sets a callback that runs when the notification has faded out.
+     * When set, the notification is left in its parent so it can be shown again.
+     * 
+     * @param onHidden The callback, or null to remove the notification from its parent instead
+     */
+    public void setOnHidden(Runnable onHidden) {
+        this.onHidden = onHidden;
+    }
+    
+    /**
+     * Checks whether the notification is currently being shown.
+     * 
+     * @return true if the notification animation is running
+     */
+    public boolean isShowing() {
+        return animation.getStatus() == javafx.animation.Animation.Status.RUNNING;
     }
     
     /**
@@ -235,6 +263,6 @@ public class ActionNotification {
      * Shows the notification.
      */
     public void show() {
-        animation.play();
+        AnimationClock.getInstance().applyRate(animation, 1.0).playFromStart();
     }
 } 
\ No newline at end of file
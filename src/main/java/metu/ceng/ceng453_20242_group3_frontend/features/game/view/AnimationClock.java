@@ -0,0 +1,153 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Shared clock for game animations and AI pacing.
+ * Every transition and AI delay reads its speed from here, so the whole game can be sped up
+ * with one setting. In instant mode, animations are skipped and scheduled actions are posted
+ * straight back to the JavaFX event queue, which lets a full AI game finish in seconds.
+ * The initial settings come from the "uno.animationSpeed" and "uno.instantAnimations" system properties.
+ */
+public class AnimationClock {
+
+    // Speeds cycled through by {@link #cycleSpeed()}; 0 stands for instant
+    private static final double[] SPEED_STEPS = {1.0, 2.0, 4.0, 0};
+
+    private static AnimationClock instance;
+
+    private double speed = 1.0;
+    private boolean instant = false;
+
+    // Private constructor for singleton pattern
+    private AnimationClock() {
+        try {
+            setSpeed(Double.parseDouble(System.getProperty("uno.animationSpeed", "1.0")));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid animation speed: " + System.getProperty("uno.animationSpeed"));
+        }
+        instant = Boolean.getBoolean("uno.instantAnimations");
+    }
+
+    // Get singleton instance
+    public static AnimationClock getInstance() {
+        if (instance == null) {
+            instance = new AnimationClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the speed multiplier; 2.0 plays animations twice as fast.
+     *
+     * @return The speed multiplier
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the speed multiplier.
+     *
+     * @param speed The speed multiplier, must be positive
+     */
+    public void setSpeed(double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Animation speed must be positive: " + speed);
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * Checks whether animations are skipped entirely.
+     *
+     * @return true in instant mode
+     */
+    public boolean isInstant() {
+        return instant;
+    }
+
+    /**
+     * Turns instant mode on or off.
+     *
+     * @param instant true to skip animations and delays
+     */
+    public void setInstant(boolean instant) {
+        this.instant = instant;
+    }
+
+    /**
+     * Moves to the next speed setting: 1x, 2x, 4x, instant, then back to 1x.
+     *
+     * @return A short description of the new setting
+     */
+    public String cycleSpeed() {
+        int current = 0;
+        for (int i = 0; i < SPEED_STEPS.length; i++) {
+            if (instant ? SPEED_STEPS[i] == 0 : SPEED_STEPS[i] == speed) {
+                current = i;
+                break;
+            }
+        }
+
+        double next = SPEED_STEPS[(current + 1) % SPEED_STEPS.length];
+        instant = next == 0;
+        if (!instant) {
+            speed = next;
+        }
+        return describe();
+    }
+
+    /**
+     * Describes the current setting, e.g. "2x" or "instant".
+     *
+     * @return The description
+     */
+    public String describe() {
+        return instant ? "instant" : String.format("%sx", speed == Math.rint(speed) ? String.valueOf((int) speed) : String.valueOf(speed));
+    }
+
+    /**
+     * Scales a duration by the current speed.
+     *
+     * @param duration The duration at normal speed
+     * @return The duration to use, or zero in instant mode
+     */
+    public Duration scale(Duration duration) {
+        return instant ? Duration.ZERO : duration.divide(speed);
+    }
+
+    /**
+     * Applies the current speed to an animation before it is played.
+     *
+     * @param animation The animation
+     * @param baseRate The rate the animation would play at normal speed
+     * @return The same animation, for chaining
+     */
+    public <T extends Animation> T applyRate(T animation, double baseRate) {
+        animation.setRate(baseRate * speed);
+        return animation;
+    }
+
+    /**
+     * Runs an action after a delay measured on this clock.
+     * In instant mode the action is posted with {@link Platform#runLater(Runnable)} instead, so long
+     * chains of AI moves do not grow the call stack and other queued events still run in between.
+     *
+     * @param delay The delay at normal speed
+     * @param action The action to run on the JavaFX thread
+     */
+    public void schedule(Duration delay, Runnable action) {
+        if (instant) {
+            Platform.runLater(action);
+            return;
+        }
+
+        PauseTransition pause = new PauseTransition(scale(delay));
+        pause.setOnFinished(e -> action.run());
+        AnimationTracker.track(pause).play();
+    }
+}
@@ -0,0 +1,220 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Pauses decorative looping animations while nobody is watching them.
+ * Registered loops are paused when the window is minimized or loses focus, when there has been
+ * no input for a while, or when the game is over, and resume from where they stopped once the
+ * window is back in use. With nothing animating, JavaFX stops scheduling pulses, so an idle
+ * client uses almost no CPU.
+ */
+public class AnimationLifecycleManager {
+
+    private final Node root;
+
+    // Decorative loops, weakly held so finished or discarded animations can be collected
+    private final Set<Animation> decorativeAnimations = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // Loops retired at game over, which stay stopped even if game logic restarts them
+    private final Set<Animation> retiredAnimations = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // Loops that were running when they were suspended, and are resumed afterwards
+    private final Set<Animation> suspendedAnimations = new LinkedHashSet<>();
+
+    // Fires once the user has been idle for the configured timeout
+    private final PauseTransition idleTimer = new PauseTransition(
+            Duration.seconds(AppConfig.ANIMATION_IDLE_TIMEOUT_SECONDS));
+
+    private final EventHandler<InputEvent> inputHandler = event -> onUserInput();
+    private final ChangeListener<Boolean> windowStateListener = (obs, oldValue, newValue) -> updateSuspension();
+    private final ChangeListener<Scene> sceneListener = (obs, oldScene, newScene) -> attachToScene(oldScene, newScene);
+    private final ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> attachToWindow(oldWindow, newWindow);
+
+    private Scene scene;
+    private Window window;
+
+    private boolean idle = false;
+    private boolean suspended = false;
+
+    /**
+     * Creates a lifecycle manager that follows the window showing the given node.
+     *
+     * @param root A node of the view whose animations are managed
+     */
+    public AnimationLifecycleManager(Node root) {
+        this.root = root;
+
+        idleTimer.setOnFinished(e -> {
+            idle = true;
+            updateSuspension();
+        });
+
+        root.sceneProperty().addListener(sceneListener);
+        attachToScene(null, root.getScene());
+    }
+
+    /**
+     * Registers a decorative looping animation. It is tracked for diagnostics and paused
+     * whenever the view is not being watched, including when it is started during that time.
+     *
+     * @param animation The animation to register
+     * @return The same animation, for chaining
+     */
+    public <T extends Animation> T registerDecorative(T animation) {
+        AnimationTracker.track(animation);
+        if (decorativeAnimations.add(animation)) {
+            animation.statusProperty().addListener((obs, oldStatus, newStatus) -> {
+                if (newStatus != Animation.Status.RUNNING) {
+                    return;
+                }
+                // Deferred, since an animation cannot be paused while it is still being started
+                Platform.runLater(() -> {
+                    if (animation.getStatus() != Animation.Status.RUNNING) {
+                        return;
+                    }
+                    if (retiredAnimations.contains(animation)) {
+                        animation.stop();
+                    } else if (suspended) {
+                        // Loops started by game logic while suspended wait until the view is watched again
+                        animation.pause();
+                        suspendedAnimations.add(animation);
+                    }
+                });
+            });
+        }
+        return animation;
+    }
+
+    /**
+     * Stops the decorative loops for good once the game is over.
+     * Animations registered afterwards, such as the game over screen, are still paused and
+     * resumed with the window.
+     */
+    public void onGameOver() {
+        for (Animation animation : decorativeAnimations) {
+            retiredAnimations.add(animation);
+            animation.stop();
+        }
+        decorativeAnimations.clear();
+        suspendedAnimations.clear();
+    }
+
+    /**
+     * Detaches from the scene and window and drops all registered animations.
+     * Call when the game view is left.
+     */
+    public void dispose() {
+        idleTimer.stop();
+        root.sceneProperty().removeListener(sceneListener);
+        attachToScene(scene, null);
+        decorativeAnimations.clear();
+        retiredAnimations.clear();
+        suspendedAnimations.clear();
+    }
+
+    /**
+     * Checks whether decorative loops are currently paused.
+     *
+     * @return true if the view is minimized, unfocused or idle
+     */
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    private void onUserInput() {
+        if (idle) {
+            idle = false;
+            updateSuspension();
+        }
+        // Restarting a finished pause is cheap, and it only runs while the loops are running too
+        if (!suspended) {
+            idleTimer.playFromStart();
+        }
+    }
+
+    /**
+     * Works out whether the view is being watched and pauses or resumes the loops on change.
+     */
+    private void updateSuspension() {
+        boolean shouldSuspend = idle || window == null || !window.isFocused()
+                || (window instanceof Stage && ((Stage) window).isIconified());
+
+        if (shouldSuspend == suspended) {
+            return;
+        }
+        suspended = shouldSuspend;
+
+        if (suspended) {
+            idleTimer.stop();
+            for (Animation animation : decorativeAnimations) {
+                if (animation.getStatus() == Animation.Status.RUNNING) {
+                    animation.pause();
+                    suspendedAnimations.add(animation);
+                }
+            }
+        } else {
+            // Resume from the paused position so the loops continue without a jump
+            for (Animation animation : suspendedAnimations) {
+                if (animation.getStatus() == Animation.Status.PAUSED) {
+                    animation.play();
+                }
+            }
+            suspendedAnimations.clear();
+            idleTimer.playFromStart();
+        }
+    }
+
+    private void attachToScene(Scene oldScene, Scene newScene) {
+        if (oldScene != null) {
+            oldScene.removeEventFilter(InputEvent.ANY, inputHandler);
+            oldScene.windowProperty().removeListener(windowListener);
+        }
+
+        scene = newScene;
+        Window newWindow = null;
+        if (newScene != null) {
+            newScene.addEventFilter(InputEvent.ANY, inputHandler);
+            newScene.windowProperty().addListener(windowListener);
+            newWindow = newScene.getWindow();
+        }
+        attachToWindow(window, newWindow);
+    }
+
+    private void attachToWindow(Window oldWindow, Window newWindow) {
+        if (oldWindow != null) {
+            oldWindow.focusedProperty().removeListener(windowStateListener);
+            if (oldWindow instanceof Stage) {
+                ((Stage) oldWindow).iconifiedProperty().removeListener(windowStateListener);
+            }
+        }
+
+        window = newWindow;
+        if (newWindow != null) {
+            newWindow.focusedProperty().addListener(windowStateListener);
+            if (newWindow instanceof Stage) {
+                ((Stage) newWindow).iconifiedProperty().addListener(windowStateListener);
+            }
+        }
+
+        idle = false;
+        updateSuspension();
+    }
+}
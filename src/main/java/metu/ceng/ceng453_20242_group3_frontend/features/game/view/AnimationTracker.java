@@ -0,0 +1,58 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.animation.Animation;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the animations created by the game view so their number can be reported.
+ * Animations are held weakly and are dropped once nothing else references them.
+ */
+public final class AnimationTracker {
+
+    private static final Set<Animation> animations = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private AnimationTracker() {
+        // Utility class
+    }
+
+    /**
+     * Registers an animation with the tracker.
+     *
+     * @param animation The animation to track
+     * @param <T> The animation type
+     * @return The same animation, for chaining
+     */
+    public static <T extends Animation> T track(T animation) {
+        if (animation != null) {
+            animations.add(animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Gets the number of tracked animations that are currently running.
+     *
+     * @return The running animation count
+     */
+    public static int getRunningCount() {
+        int running = 0;
+        for (Animation animation : animations) {
+            if (animation.getStatus() == Animation.Status.RUNNING) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Gets the number of tracked animations that are still alive.
+     *
+     * @return The tracked animation count
+     */
+    public static int getTrackedCount() {
+        return animations.size();
+    }
+}
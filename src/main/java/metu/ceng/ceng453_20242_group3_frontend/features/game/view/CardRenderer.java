@@ -1,5 +1,6 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
 
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -25,8 +26,8 @@ import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
  */
 public class CardRenderer {
     // Card dimensions
-    private static final double CARD_WIDTH = 80;
-    private static final double CARD_HEIGHT = 120;
+    public static final double CARD_WIDTH = 80;
+    public static final double CARD_HEIGHT = 120;
     private static final double CARD_ARC = 15;
     
     // Standard UNO colors
@@ -44,18 +45,26 @@ public class CardRenderer {
      * @return A StackPane containing the card visualization
      */
     public static StackPane createCardView(Card card) {
+        long startNanos = PerformanceOverlay.isMeasuring() ? System.nanoTime() : 0;
+        StackPane cardView;
+        
         if (card.isNumberCard()) {
-            return createNumberCardView(card);
+            cardView = createNumberCardView(card);
         } else if (card.isWildCard()) {
             if (card.getAction() == CardAction.WILD) {
-                return createWildCardView(card);
+                cardView = createWildCardView(card);
             } else {
-                return createWildDrawFourCardView(card);
+                cardView = createWildDrawFourCardView(card);
             }
         } else {
             // Action cards: Skip, Reverse, Draw Two
-            return createActionCardView(card);
+            cardView = createActionCardView(card);
+        }
+        
+        if (startNanos != 0) {
+            PerformanceOverlay.recordSection(PerformanceOverlay.Section.CARD_RENDER, System.nanoTime() - startNanos);
         }
+        return cardView;
     }
 
     /**
@@ -71,7 +80,7 @@ public class CardRenderer {
         Ellipse whiteEllipse = new Ellipse(30, 45);
         whiteEllipse.setFill(Color.WHITE);
         whiteEllipse.setRotate(30);
-        whiteEllipse.setEffect(new InnerShadow(3, getColorFromCardColor(card.getColor()).darker()));
+        applyInnerShadow(whiteEllipse, getColorFromCardColor(card.getColor()).darker());
         
         cardView.getChildren().add(whiteEllipse);
         
@@ -122,7 +131,7 @@ public class CardRenderer {
             Ellipse whiteOval = new Ellipse(30, 45);
             whiteOval.setFill(Color.WHITE);
             whiteOval.setRotate(30);
-            whiteOval.setEffect(new InnerShadow(3, cardColor.darker()));
+            applyInnerShadow(whiteOval, cardColor.darker());
             cardView.getChildren().add(whiteOval);
             
             // Create the +2 symbol like in the official UNO cards
@@ -153,7 +162,7 @@ public class CardRenderer {
             Ellipse whiteEllipse = new Ellipse(30, 45);
             whiteEllipse.setFill(Color.WHITE);
             whiteEllipse.setRotate(30);
-            whiteEllipse.setEffect(new InnerShadow(3, cardColor.darker()));
+            applyInnerShadow(whiteEllipse, cardColor.darker());
             
             cardView.getChildren().add(whiteEllipse);
             
@@ -502,16 +511,33 @@ public class CardRenderer {
      * @param cardView The card view to modify
      */
     private static void setPlayableEffect(Card card, StackPane cardView) {
+        boolean effectsEnabled = QualityGovernor.getInstance().getLevel().hasCardEffects();
+        
         if (card.isPlayable()) {
             // Use a lighter shadow effect for better performance
-            DropShadow highlight = new DropShadow(8, Color.GOLD);
-            cardView.setEffect(highlight);
+            if (effectsEnabled) {
+                DropShadow highlight = new DropShadow(8, Color.GOLD);
+                cardView.setEffect(highlight);
+            }
             cardView.setStyle("-fx-cursor: hand;");
             
             // Use a simpler highlight instead of scaling to improve performance
             cardView.setOpacity(1.0);
         } else {
-            cardView.setOpacity(0.85);
+            // Without the glow, dim unplayable cards a bit more so playable ones still stand out
+            cardView.setOpacity(effectsEnabled ? 0.85 : 0.7);
+        }
+    }
+    
+    /**
+     * Adds the inner shadow used on card ovals, unless effects are off at the current quality level.
+     * 
+     * @param node The node to shade
+     * @param color The shadow color
+     */
+    private static void applyInnerShadow(Node node, Color color) {
+        if (QualityGovernor.getInstance().getLevel().hasCardEffects()) {
+            node.setEffect(new InnerShadow(3, color));
         }
     }
 } 
\ No newline at end of file
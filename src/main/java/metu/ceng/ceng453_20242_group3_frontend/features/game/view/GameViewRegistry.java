@@ -0,0 +1,231 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.util.List;
+
+/**
+ * Lookup registry for the nodes of the game view.
+ * FXML-injected nodes are registered once after the view is loaded, and nodes that have to be
+ * found in the scene graph (the center game table) are resolved lazily and cached until the
+ * grid structure changes, so view managers get every node in constant time.
+ */
+public class GameViewRegistry {
+
+    // Grid cell of the center game table
+    private static final int TABLE_COLUMN = 1;
+    private static final int TABLE_ROW = 1;
+
+    private final Pane gamePane;
+
+    // Player areas
+    private final VBox topPlayerArea;
+    private final HBox leftPlayerArea;
+    private final HBox rightPlayerArea;
+    private final VBox bottomPlayerArea;
+
+    // Player name labels
+    private final Label topPlayerNameLabel;
+    private final Label leftPlayerNameLabel;
+    private final Label rightPlayerNameLabel;
+    private final Label bottomPlayerNameLabel;
+
+    // Card piles
+    private final StackPane drawPileContainer;
+    private final StackPane discardPileContainer;
+
+    // Nodes resolved from the scene graph, cached until invalidated
+    private StackPane gameTableStack;
+    private StackPane gameTable;
+    private boolean resolved = false;
+
+    // Grid the cached nodes were resolved from, watched for structural changes
+    private GridPane watchedGrid;
+
+    private final ListChangeListener<Node> gridChildrenListener = change -> invalidate();
+
+    /**
+     * Creates a registry for the game view and starts watching it for structural changes.
+     *
+     * @param gamePane The root game pane
+     * @param topPlayerArea The top player area
+     * @param leftPlayerArea The left player area
+     * @param rightPlayerArea The right player area
+     * @param bottomPlayerArea The bottom player area
+     * @param topPlayerNameLabel The top player's name label
+     * @param leftPlayerNameLabel The left player's name label
+     * @param rightPlayerNameLabel The right player's name label
+     * @param bottomPlayerNameLabel The bottom player's name label
+     * @param drawPileContainer The draw pile container
+     * @param discardPileContainer The discard pile container
+     */
+    public GameViewRegistry(Pane gamePane,
+                            VBox topPlayerArea, HBox leftPlayerArea, HBox rightPlayerArea, VBox bottomPlayerArea,
+                            Label topPlayerNameLabel, Label leftPlayerNameLabel,
+                            Label rightPlayerNameLabel, Label bottomPlayerNameLabel,
+                            StackPane drawPileContainer, StackPane discardPileContainer) {
+        this.gamePane = gamePane;
+        this.topPlayerArea = topPlayerArea;
+        this.leftPlayerArea = leftPlayerArea;
+        this.rightPlayerArea = rightPlayerArea;
+        this.bottomPlayerArea = bottomPlayerArea;
+        this.topPlayerNameLabel = topPlayerNameLabel;
+        this.leftPlayerNameLabel = leftPlayerNameLabel;
+        this.rightPlayerNameLabel = rightPlayerNameLabel;
+        this.bottomPlayerNameLabel = bottomPlayerNameLabel;
+        this.drawPileContainer = drawPileContainer;
+        this.discardPileContainer = discardPileContainer;
+
+        // Only a grid being added or removed changes where the table is;
+        // overlays, notifications and flying cards are added here all the time and are ignored
+        gamePane.getChildren().addListener((ListChangeListener<Node>) change -> {
+            while (change.next()) {
+                if (containsGrid(change.getAddedSubList()) || containsGrid(change.getRemoved())) {
+                    invalidate();
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the cached scene-graph lookups so they are resolved again on next access.
+     */
+    public void invalidate() {
+        resolved = false;
+        gameTableStack = null;
+        gameTable = null;
+    }
+
+    /**
+     * Gets the root game pane.
+     *
+     * @return The game pane
+     */
+    public Pane getGamePane() {
+        return gamePane;
+    }
+
+    /**
+     * Gets the StackPane in the center cell of the grid, which hosts the game table and overlays.
+     *
+     * @return The center StackPane or null if not found
+     */
+    public StackPane getGameTableStack() {
+        resolveIfNeeded();
+        return gameTableStack;
+    }
+
+    /**
+     * Gets the styled game table inside the center StackPane.
+     *
+     * @return The game table or null if not found
+     */
+    public StackPane getGameTable() {
+        resolveIfNeeded();
+        return gameTable;
+    }
+
+    public VBox getTopPlayerArea() {
+        return topPlayerArea;
+    }
+
+    public HBox getLeftPlayerArea() {
+        return leftPlayerArea;
+    }
+
+    public HBox getRightPlayerArea() {
+        return rightPlayerArea;
+    }
+
+    public VBox getBottomPlayerArea() {
+        return bottomPlayerArea;
+    }
+
+    public Label getTopPlayerNameLabel() {
+        return topPlayerNameLabel;
+    }
+
+    public Label getLeftPlayerNameLabel() {
+        return leftPlayerNameLabel;
+    }
+
+    public Label getRightPlayerNameLabel() {
+        return rightPlayerNameLabel;
+    }
+
+    public Label getBottomPlayerNameLabel() {
+        return bottomPlayerNameLabel;
+    }
+
+    public StackPane getDrawPileContainer() {
+        return drawPileContainer;
+    }
+
+    public StackPane getDiscardPileContainer() {
+        return discardPileContainer;
+    }
+
+    /**
+     * Walks the scene graph for the game table once, and caches the result until invalidated.
+     */
+    private void resolveIfNeeded() {
+        if (resolved) {
+            return;
+        }
+        resolved = true;
+
+        if (watchedGrid != null) {
+            watchedGrid.getChildren().removeListener(gridChildrenListener);
+            watchedGrid = null;
+        }
+
+        for (Node node : gamePane.getChildren()) {
+            if (!(node instanceof GridPane)) {
+                continue;
+            }
+
+            GridPane gridPane = (GridPane) node;
+            watchedGrid = gridPane;
+            gridPane.getChildren().addListener(gridChildrenListener);
+
+            for (Node child : gridPane.getChildren()) {
+                // Find the center stack pane
+                Integer colIndex = GridPane.getColumnIndex(child);
+                Integer rowIndex = GridPane.getRowIndex(child);
+
+                if (colIndex != null && rowIndex != null && colIndex == TABLE_COLUMN && rowIndex == TABLE_ROW
+                        && child instanceof StackPane) {
+                    gameTableStack = (StackPane) child;
+
+                    // Find the game table inside the stack pane
+                    for (Node tableCandidate : gameTableStack.getChildren()) {
+                        if (tableCandidate instanceof StackPane
+                                && tableCandidate.getStyleClass().contains("game-table")) {
+                            gameTable = (StackPane) tableCandidate;
+                            break;
+                        }
+                    }
+                    return;
+                }
+            }
+            return;
+        }
+    }
+
+    private static boolean containsGrid(List<? extends Node> nodes) {
+        for (Node node : nodes) {
+            if (node instanceof GridPane) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,324 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Card;
+
+/**
+ * Lays out a player's hand with card overlap computed from the available width.
+ * When a hand is too large for every card to stay readable, only a window of cards is
+ * materialized and the hidden cards are summarized by "+N" badges at the edges. Scrolling
+ * over the hand or clicking a badge moves the window, so layout cost stays bounded no matter
+ * how many cards the hand holds. Card views are kept across updates and only rebuilt when the
+ * state they were drawn for changes, and the card layer's children are patched in place, so a
+ * drawn or played card touches only its own node.
+ */
+public class HandView {
+
+    // Horizontal distance between cards when there is plenty of room (matches the old -25 spacing)
+    private static final double MAX_STEP = CardRenderer.CARD_WIDTH - 25;
+
+    // Smallest horizontal distance between cards that still leaves a clickable strip
+    private static final double MIN_STEP = 16;
+
+    // How far a hovered card is raised
+    private static final double HOVER_LIFT = 15;
+
+    // Width reserved for the hidden card badges
+    private static final double BADGE_WIDTH = 36;
+
+    // Number of cards the window moves per scroll step
+    private static final int SCROLL_STEP = 3;
+
+    // Keys of the card and the view state a card view was built for, stored in the view's properties
+    private static final String CARD_KEY = "uno.handCard";
+    private static final String VIEW_STATE_KEY = "uno.handViewState";
+
+    private final Pane cardLayer = new Pane();
+    private final Label leftBadge = createBadge();
+    private final Label rightBadge = createBadge();
+    private final Function<Card, StackPane> cardViewFactory;
+    private final Function<Card, Object> viewStateFunction;
+
+    // Materialized card views, keyed by card identity since equal cards can appear twice in a hand
+    private final Map<Card, StackPane> views = new IdentityHashMap<>();
+
+    private List<Card> cards = Collections.emptyList();
+    private int firstVisible = 0;
+    private int visibleCount = 0;
+
+    /**
+     * Creates a hand view inside the given container.
+     *
+     * @param container The container to host the hand; its existing children are replaced
+     * @param cardViewFactory Creates the view for a card, including its click handling
+     * @param viewStateFunction Gives the state a card's view depends on, such as whether it is playable;
+     *                          a view is rebuilt when this state changes
+     */
+    public HandView(HBox container, Function<Card, StackPane> cardViewFactory, Function<Card, Object> viewStateFunction) {
+        this.cardViewFactory = cardViewFactory;
+        this.viewStateFunction = viewStateFunction;
+
+        cardLayer.setMinHeight(CardRenderer.CARD_HEIGHT + HOVER_LIFT);
+        cardLayer.setPrefHeight(CardRenderer.CARD_HEIGHT + HOVER_LIFT);
+        cardLayer.setPrefWidth(CardRenderer.CARD_WIDTH);
+        cardLayer.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(cardLayer, Priority.ALWAYS);
+        container.getChildren().setAll(cardLayer);
+
+        // Re-layout whenever the available width changes
+        cardLayer.widthProperty().addListener((obs, oldWidth, newWidth) -> layoutCards());
+
+        // Scrolling over the hand moves the visible window
+        cardLayer.setOnScroll(event -> {
+            if (event.getDeltaY() != 0 || event.getDeltaX() != 0) {
+                double delta = event.getDeltaY() != 0 ? event.getDeltaY() : event.getDeltaX();
+                scrollBy(delta > 0 ? -SCROLL_STEP : SCROLL_STEP);
+                event.consume();
+            }
+        });
+
+        leftBadge.setOnMouseClicked(event -> scrollBy(-Math.max(1, visibleCount - 1)));
+        rightBadge.setOnMouseClicked(event -> scrollBy(Math.max(1, visibleCount - 1)));
+    }
+
+    /**
+     * Shows the given cards, reusing views for cards that are already materialized.
+     *
+     * @param hand The cards in the hand, in display order
+     */
+    public void setCards(List<Card> hand) {
+        this.cards = hand;
+        layoutCards();
+    }
+
+    /**
+     * Shows the given cards, rebuilding only the views whose state has changed since they were built,
+     * for example cards that became playable.
+     *
+     * @param hand The cards in the hand, in display order
+     */
+    public void refresh(List<Card> hand) {
+        views.values().removeIf(view -> !Objects.equals(
+                view.getProperties().get(VIEW_STATE_KEY),
+                viewStateFunction.apply((Card) view.getProperties().get(CARD_KEY))));
+        setCards(hand);
+    }
+
+    /**
+     * Removes all cards from the hand view.
+     */
+    public void clear() {
+        views.clear();
+        cards = Collections.emptyList();
+        cardLayer.getChildren().clear();
+    }
+
+    /**
+     * Makes sure a card is inside the visible window and returns its view.
+     *
+     * @param card The card to reveal
+     * @return The card's view, or null if the card is not in the hand
+     */
+    public StackPane reveal(Card card) {
+        int index = indexOf(card);
+        if (index < 0) {
+            return null;
+        }
+
+        if (index < firstVisible || index >= firstVisible + visibleCount) {
+            firstVisible = index - visibleCount / 2;
+            layoutCards();
+        }
+        return views.get(card);
+    }
+
+    /**
+     * Removes a card view from the hand, for example when the card is being played.
+     * The remaining cards are laid out again on the next update.
+     *
+     * @param cardView The view to remove
+     */
+    public void removeCardView(Node cardView) {
+        if (cardLayer.getChildren().remove(cardView)) {
+            views.values().remove(cardView);
+        }
+    }
+
+    /**
+     * Gets the node that holds the card views.
+     *
+     * @return The card layer
+     */
+    public Pane getCardLayer() {
+        return cardLayer;
+    }
+
+    /**
+     * Moves the visible window by the given number of cards.
+     *
+     * @param cardCount The number of cards to move; negative moves towards the start of the hand
+     */
+    private void scrollBy(int cardCount) {
+        if (visibleCount >= cards.size()) {
+            return;
+        }
+        firstVisible += cardCount;
+        layoutCards();
+    }
+
+    /**
+     * Computes the overlap, materializes views for the visible window and positions them.
+     */
+    private void layoutCards() {
+        int cardCount = cards.size();
+        double width = cardLayer.getWidth();
+
+        if (cardCount == 0) {
+            views.clear();
+            cardLayer.getChildren().clear();
+            visibleCount = 0;
+            return;
+        }
+
+        if (width <= 0) {
+            // Not laid out yet; assume half the default window until the real width is known
+            width = AppConfig.WINDOW_WIDTH / 2.0;
+        }
+
+        // Spread cards across the available width, up to the natural spacing
+        double step = cardCount > 1
+                ? Math.min(MAX_STEP, (width - CardRenderer.CARD_WIDTH) / (cardCount - 1))
+                : MAX_STEP;
+
+        int windowSize = cardCount;
+        if (step < MIN_STEP) {
+            // Too many cards to keep each one clickable: show a window between the badges
+            double usableWidth = width - 2 * BADGE_WIDTH - CardRenderer.CARD_WIDTH;
+            windowSize = Math.min(cardCount, Math.max(1, (int) Math.floor(usableWidth / MIN_STEP) + 1));
+            step = MIN_STEP;
+        }
+
+        visibleCount = windowSize;
+        firstVisible = Math.max(0, Math.min(firstVisible, cardCount - windowSize));
+        int lastVisible = firstVisible + windowSize;
+
+        // Drop views for cards that left the window or the hand
+        List<Card> visibleCards = cards.subList(firstVisible, lastVisible);
+        views.keySet().removeIf(card -> !containsIdentity(visibleCards, card));
+
+        // Center the visible row
+        double rowWidth = CardRenderer.CARD_WIDTH + (windowSize - 1) * step;
+        double startX = Math.max(0, (width - rowWidth) / 2);
+
+        List<Node> children = new ArrayList<>(windowSize + 2);
+        for (int i = 0; i < windowSize; i++) {
+            Card card = visibleCards.get(i);
+            StackPane view = views.get(card);
+            if (view == null) {
+                view = createCardView(card);
+                views.put(card, view);
+            }
+
+            view.setLayoutX(startX + i * step);
+            view.setLayoutY(HOVER_LIFT);
+            children.add(view);
+        }
+
+        // Badges for the cards outside the window
+        if (firstVisible > 0) {
+            leftBadge.setText("+" + firstVisible);
+            leftBadge.setLayoutX(Math.max(0, startX - BADGE_WIDTH));
+            leftBadge.setLayoutY(HOVER_LIFT + CardRenderer.CARD_HEIGHT / 2 - 12);
+            children.add(leftBadge);
+        }
+        if (lastVisible < cardCount) {
+            rightBadge.setText("+" + (cardCount - lastVisible));
+            rightBadge.setLayoutX(Math.min(width - BADGE_WIDTH, startX + rowWidth + 4));
+            rightBadge.setLayoutY(HOVER_LIFT + CardRenderer.CARD_HEIGHT / 2 - 12);
+            children.add(rightBadge);
+        }
+
+        reconcileChildren(children);
+    }
+
+    /**
+     * Brings the card layer's children into the given order with as few insertions and removals
+     * as possible, so unchanged cards keep their nodes and are not re-attached to the scene.
+     */
+    private void reconcileChildren(List<Node> desired) {
+        ObservableList<Node> current = cardLayer.getChildren();
+
+        Set<Node> wanted = Collections.newSetFromMap(new IdentityHashMap<>());
+        wanted.addAll(desired);
+        current.removeIf(node -> !wanted.contains(node));
+
+        for (int i = 0; i < desired.size(); i++) {
+            Node node = desired.get(i);
+            if (i < current.size() && current.get(i) == node) {
+                continue;
+            }
+            // A new card, or one that moved because the hand was re-sorted
+            current.remove(node);
+            current.add(i, node);
+        }
+    }
+
+    /**
+     * Creates a card view and adds hover handling to it.
+     */
+    private StackPane createCardView(Card card) {
+        StackPane view = cardViewFactory.apply(card);
+        view.getProperties().put(CARD_KEY, card);
+        view.getProperties().put(VIEW_STATE_KEY, viewStateFunction.apply(card));
+
+        // Raise the hovered card without changing the stacking order, so picking stays exact
+        view.setOnMouseEntered(event -> view.setTranslateY(-HOVER_LIFT));
+        view.setOnMouseExited(event -> view.setTranslateY(0));
+        return view;
+    }
+
+    private int indexOf(Card card) {
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i) == card) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean containsIdentity(List<Card> cards, Card card) {
+        for (Card candidate : cards) {
+            if (candidate == card) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Label createBadge() {
+        Label badge = new Label();
+        badge.setAlignment(Pos.CENTER);
+        badge.setPrefWidth(BADGE_WIDTH - 4);
+        badge.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-background-radius: 12; -fx-text-fill: white; "
+                + "-fx-font-weight: bold; -fx-padding: 4; -fx-cursor: hand;");
+        return badge;
+    }
+}
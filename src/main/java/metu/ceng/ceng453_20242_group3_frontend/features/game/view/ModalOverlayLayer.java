@@ -0,0 +1,356 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.ScaleTransition;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.function.Consumer;
+
+import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
+
+/**
+ * In-scene layer for the game's modal dialogs: the wild card color picker, the exit
+ * confirmation and the game over screen.
+ * The layer and every dialog pane are built once with the game view and then only shown and
+ * hidden, so opening a dialog does not create windows or nodes. While a dialog is showing,
+ * the layer covers the game and swallows mouse input to the table.
+ */
+public class ModalOverlayLayer {
+
+    private static final String BUTTON_STYLE = "-fx-text-fill: white; -fx-font-weight: bold; "
+            + "-fx-font-size: 16px; -fx-padding: 15 30; -fx-background-radius: 10;";
+    private static final String EXIT_BUTTON_STYLE = "-fx-background-color: #F44336; " + BUTTON_STYLE;
+    private static final String EXIT_BUTTON_HOVER_STYLE = "-fx-background-color: #EF5350; " + BUTTON_STYLE;
+    private static final String CANCEL_BUTTON_STYLE = "-fx-background-color: #607D8B; " + BUTTON_STYLE;
+    private static final String CANCEL_BUTTON_HOVER_STYLE = "-fx-background-color: #78909C; " + BUTTON_STYLE;
+
+    private final AnimationLifecycleManager lifecycleManager;
+    private final StackPane layer = new StackPane();
+    private final FadeTransition fadeIn = new FadeTransition(Duration.millis(300), layer);
+
+    // Color picker
+    private final VBox colorPickerPane;
+    private Consumer<CardColor> onColorSelected;
+
+    // Exit confirmation
+    private final VBox confirmPane;
+    private final Label confirmMessageLabel = new Label();
+    private Runnable onConfirm;
+
+    // Game over screen
+    private final StackPane gameOverPane;
+    private final Label winnerLabel = new Label();
+    private final Label winnerNameLabel = new Label();
+    private final ScaleTransition winnerPulse = new ScaleTransition(Duration.seconds(1), winnerLabel);
+    private Runnable onGameOverExit;
+
+    /**
+     * Creates the overlay layer and its dialogs and adds it, hidden, to the game pane.
+     *
+     * @param gamePane The game pane to cover
+     * @param lifecycleManager The manager that pauses the game over pulse when it is not visible
+     */
+    public ModalOverlayLayer(Pane gamePane, AnimationLifecycleManager lifecycleManager) {
+        this.lifecycleManager = lifecycleManager;
+
+        layer.setStyle("-fx-background-color: rgba(0, 0, 0, 0.4);");
+        layer.setAlignment(Pos.CENTER);
+        layer.setVisible(false);
+        layer.setPickOnBounds(true);
+
+        // Keep clicks from reaching the table while a dialog is open
+        layer.setOnMouseClicked(event -> event.consume());
+        layer.setOnMousePressed(event -> event.consume());
+
+        AnchorPane.setTopAnchor(layer, 0.0);
+        AnchorPane.setRightAnchor(layer, 0.0);
+        AnchorPane.setBottomAnchor(layer, 0.0);
+        AnchorPane.setLeftAnchor(layer, 0.0);
+
+        fadeIn.setFromValue(0);
+        fadeIn.setToValue(1);
+        AnimationTracker.track(fadeIn);
+
+        colorPickerPane = createColorPickerPane();
+        confirmPane = createConfirmPane();
+        gameOverPane = createGameOverPane();
+
+        layer.getChildren().addAll(colorPickerPane, confirmPane, gameOverPane);
+        for (Node dialog : layer.getChildren()) {
+            hide(dialog);
+        }
+
+        gamePane.getChildren().add(layer);
+    }
+
+    /**
+     * Shows the wild card color picker.
+     *
+     * @param onColorSelected Called with the chosen color after the picker has closed
+     */
+    public void showColorPicker(Consumer<CardColor> onColorSelected) {
+        this.onColorSelected = onColorSelected;
+        showDialog(colorPickerPane);
+    }
+
+    /**
+     * Chooses a color in the open color picker, as if its button had been pressed.
+     * Does nothing if the picker is not waiting for a choice.
+     *
+     * @param cardColor The color to choose
+     */
+    public void selectColor(CardColor cardColor) {
+        Consumer<CardColor> callback = onColorSelected;
+        if (callback == null) {
+            return;
+        }
+
+        System.out.println("Wild card color selected: " + cardColor);
+        onColorSelected = null;
+        hide();
+        callback.accept(cardColor);
+    }
+
+    /**
+     * Shows a yes/no confirmation.
+     *
+     * @param message The question to ask
+     * @param onConfirm Called if the user confirms
+     */
+    public void showConfirmation(String message, Runnable onConfirm) {
+        confirmMessageLabel.setText(message);
+        this.onConfirm = onConfirm;
+        showDialog(confirmPane);
+    }
+
+    /**
+     * Shows the game over screen.
+     *
+     * @param isPlayerWinner Whether the human player won
+     * @param winnerName The name of the winner
+     * @param onExit Called when the player leaves the game
+     */
+    public void showGameOver(boolean isPlayerWinner, String winnerName, Runnable onExit) {
+        winnerLabel.setText(isPlayerWinner ? "YOU WIN!" : "YOU LOSE!");
+        winnerLabel.setStyle("-fx-font-size: 48px; -fx-font-weight: bold; -fx-text-fill: "
+                + (isPlayerWinner ? "gold" : "crimson") + ";");
+        winnerNameLabel.setText("Winner: " + winnerName);
+        this.onGameOverExit = onExit;
+
+        showDialog(gameOverPane);
+
+        if (!AnimationClock.getInstance().isInstant()) {
+            // Registered only now, since the lifecycle manager retires loops registered before game over
+            AnimationClock.getInstance().applyRate(lifecycleManager.registerDecorative(winnerPulse), 1.0).playFromStart();
+        }
+    }
+
+    /**
+     * Hides the layer and whichever dialog is showing.
+     */
+    public void hide() {
+        fadeIn.stop();
+        winnerPulse.stop();
+        layer.setVisible(false);
+        for (Node dialog : layer.getChildren()) {
+            hide(dialog);
+        }
+    }
+
+    /**
+     * Checks whether a dialog is currently showing.
+     *
+     * @return true if the layer is visible
+     */
+    public boolean isShowing() {
+        return layer.isVisible();
+    }
+
+    private void showDialog(Node dialog) {
+        for (Node other : layer.getChildren()) {
+            if (other != dialog) {
+                hide(other);
+            }
+        }
+        dialog.setVisible(true);
+        dialog.setManaged(true);
+
+        // Notifications and flying cards may have been added above the layer since it was last shown
+        layer.toFront();
+        layer.setVisible(true);
+
+        if (AnimationClock.getInstance().isInstant()) {
+            layer.setOpacity(1);
+        } else {
+            AnimationClock.getInstance().applyRate(fadeIn, 1.0).playFromStart();
+        }
+    }
+
+    private static void hide(Node dialog) {
+        dialog.setVisible(false);
+        dialog.setManaged(false);
+    }
+
+    /**
+     * Builds the color picker with one button per color.
+     */
+    private VBox createColorPickerPane() {
+        VBox pane = createDialogBox(15, 20);
+        pane.setMaxSize(400, 200);
+
+        Label titleLabel = new Label("Select a Color");
+        titleLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: white;");
+
+        HBox colorButtons = new HBox(15);
+        colorButtons.setAlignment(Pos.CENTER);
+        colorButtons.getChildren().addAll(
+                createColorButton(Color.RED, CardColor.RED),
+                createColorButton(Color.BLUE, CardColor.BLUE),
+                createColorButton(Color.GREEN, CardColor.GREEN),
+                createColorButton(Color.YELLOW, CardColor.YELLOW));
+
+        pane.getChildren().addAll(titleLabel, colorButtons);
+        return pane;
+    }
+
+    private Button createColorButton(Color color, CardColor cardColor) {
+        Button button = new Button();
+        button.setPrefSize(70, 70);
+        button.setStyle("-fx-background-color: " + toRGBCode(color) + "; -fx-background-radius: 10; "
+                + "-fx-border-color: white; -fx-border-width: 2; -fx-border-radius: 10;");
+
+        // Add hover effect
+        DropShadow hoverGlow = new DropShadow(10, color.brighter());
+        button.setOnMouseEntered(e -> button.setEffect(hoverGlow));
+        button.setOnMouseExited(e -> button.setEffect(null));
+
+        button.setOnAction(e -> {
+            button.setEffect(null);
+            selectColor(cardColor);
+        });
+        return button;
+    }
+
+    /**
+     * Builds the yes/no confirmation.
+     */
+    private VBox createConfirmPane() {
+        VBox pane = createDialogBox(20, 30);
+        pane.setMaxSize(450, 200);
+
+        confirmMessageLabel.setWrapText(true);
+        confirmMessageLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: white;");
+
+        Button yesButton = createStyledButton("YES", EXIT_BUTTON_STYLE, EXIT_BUTTON_HOVER_STYLE);
+        yesButton.setOnAction(e -> {
+            Runnable callback = onConfirm;
+            onConfirm = null;
+            hide();
+            if (callback != null) {
+                callback.run();
+            }
+        });
+
+        Button noButton = createStyledButton("NO", CANCEL_BUTTON_STYLE, CANCEL_BUTTON_HOVER_STYLE);
+        noButton.setOnAction(e -> {
+            onConfirm = null;
+            hide();
+        });
+
+        HBox buttonsBox = new HBox(30, yesButton, noButton);
+        buttonsBox.setAlignment(Pos.CENTER);
+
+        pane.getChildren().addAll(confirmMessageLabel, buttonsBox);
+        return pane;
+    }
+
+    /**
+     * Builds the game over screen.
+     */
+    private StackPane createGameOverPane() {
+        StackPane pane = new StackPane();
+        pane.setPrefSize(500, 400);
+        pane.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        pane.setStyle("-fx-background-color: rgba(0, 0, 0, 0.8); -fx-background-radius: 20;");
+        pane.setEffect(new DropShadow(20, Color.BLACK));
+
+        VBox content = new VBox(20);
+        content.setAlignment(Pos.CENTER);
+        content.setPadding(new Insets(30));
+
+        Label gameOverLabel = new Label("GAME OVER");
+        gameOverLabel.setStyle("-fx-font-size: 36px; -fx-font-weight: bold; -fx-text-fill: white;");
+
+        winnerNameLabel.setStyle("-fx-font-size: 24px; -fx-text-fill: white;");
+
+        Button exitButton = createStyledButton("EXIT GAME", EXIT_BUTTON_STYLE, EXIT_BUTTON_HOVER_STYLE);
+        exitButton.setOnAction(e -> {
+            Runnable callback = onGameOverExit;
+            onGameOverExit = null;
+            hide();
+            if (callback != null) {
+                callback.run();
+            }
+        });
+
+        HBox buttonsBox = new HBox(30, exitButton);
+        buttonsBox.setAlignment(Pos.CENTER);
+        buttonsBox.setPadding(new Insets(20, 0, 0, 0));
+
+        content.getChildren().addAll(gameOverLabel, winnerLabel, winnerNameLabel, buttonsBox);
+        pane.getChildren().add(content);
+
+        // Pulsing winner text
+        winnerPulse.setFromX(1.0);
+        winnerPulse.setFromY(1.0);
+        winnerPulse.setToX(1.1);
+        winnerPulse.setToY(1.1);
+        winnerPulse.setCycleCount(Animation.INDEFINITE);
+        winnerPulse.setAutoReverse(true);
+
+        return pane;
+    }
+
+    private static VBox createDialogBox(double spacing, double padding) {
+        VBox box = new VBox(spacing);
+        box.setPadding(new Insets(padding));
+        box.setAlignment(Pos.CENTER);
+        box.setStyle("-fx-background-color: rgba(0, 0, 0, 0.9); -fx-background-radius: 15;");
+        return box;
+    }
+
+    private static Button createStyledButton(String text, String style, String hoverStyle) {
+        Button button = new Button(text);
+        button.setStyle(style);
+        button.setOnMouseEntered(e -> button.setStyle(hoverStyle));
+        button.setOnMouseExited(e -> button.setStyle(style));
+        return button;
+    }
+
+    /**
+     * Converts a JavaFX Color to a CSS RGB code string.
+     *
+     * @param color The JavaFX Color to convert
+     * @return A CSS-compatible RGB color string
+     */
+    private static String toRGBCode(Color color) {
+        return String.format("rgb(%d, %d, %d)",
+                (int) (color.getRed() * 255),
+                (int) (color.getGreen() * 255),
+                (int) (color.getBlue() * 255));
+    }
+}
@@ -1,28 +1,81 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
 
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Card;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardAction;
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.CardColor;
 
 /**
- * Manager for displaying game notifications
+ * Manager for displaying game notifications.
+ * Notifications are queued, related events from the same player are merged into one toast,
+ * and a fixed pool of notification panes caps how many are animating at once.
  */
 public class NotificationManager {
     
+    // Number of notification panes, which is also the maximum number shown at once
+    private static final int POOL_SIZE = 3;
+    
+    // Maximum number of notifications waiting for a free pane
+    private static final int MAX_QUEUED = 6;
+    
+    // Events arriving within this window are merged before being shown
+    private static final Duration COALESCE_WINDOW = Duration.millis(120);
+    
+    // Vertical layout of the notification slots in the top-left corner
+    private static final double SLOT_X = 20;
+    private static final double SLOT_Y = 20;
+    private static final double SLOT_SPACING = 80;
+    
     private final Pane parentPane;
     
+    // Pooled notification panes, one per slot
+    private final ActionNotification[] slots = new ActionNotification[POOL_SIZE];
+    private final boolean[] slotBusy = new boolean[POOL_SIZE];
+    
+    // Notifications waiting to be shown, in arrival order
+    private final Deque<PendingNotification> queue = new ArrayDeque<>();
+    
+    // Delays showing queued notifications so that bursts can be merged
+    private final PauseTransition coalesceTimer = new PauseTransition(COALESCE_WINDOW);
+    
+    // Single reusable notification for unplayable card messages
+    private ActionNotification unplayableNotification;
+    
+    /**
+     * A notification waiting for a free pane.
+     */
+    private static final class PendingNotification {
+        private final String playerName;
+        private final boolean isUrgent;
+        private final boolean isUnoCall;
+        private String message;
+        
+        private PendingNotification(String playerName, String message, boolean isUrgent, boolean isUnoCall) {
+            this.playerName = playerName;
+            this.message = message;
+            this.isUrgent = isUrgent;
+            this.isUnoCall = isUnoCall;
+        }
+    }
+    
     /**
      * Creates a new notification manager.
      * 
-     * @param parentPane The parent pane to add notifications to
+     * @param viewRegistry The registry holding the game pane notifications are added to
      */
-    public NotificationManager(Pane parentPane) {
-        this.parentPane = parentPane;
+    public NotificationManager(GameViewRegistry viewRegistry) {
+        this.parentPane = viewRegistry.getGamePane();
+        coalesceTimer.setOnFinished(e -> showQueuedNotifications());
     }
     
     /**
@@ -33,19 +86,7 @@ public class NotificationManager {
      */
     public void showActionNotification(String playerName, String message) {
         // Run on JavaFX thread to avoid threading issues
-        Platform.runLater(() -> {
-            // Create the notification
-            ActionNotification notification = new ActionNotification(playerName, message);
-            
-            // Position in top-left corner of the screen
-            StackPane notificationPane = notification.getNotificationPane();
-            notificationPane.setLayoutX(20); // Fixed left margin
-            notificationPane.setLayoutY(20); // Fixed top margin
-            
-            // Add to parent and show
-            parentPane.getChildren().add(notificationPane);
-            notification.show();
-        });
+        Platform.runLater(() -> enqueue(new PendingNotification(playerName, message, false, false)));
     }
     
     /**
@@ -56,19 +97,7 @@ public class NotificationManager {
      */
     public void showColorSelectionNotification(String playerName, CardColor selectedColor) {
         // Run on JavaFX thread to avoid threading issues
-        Platform.runLater(() -> {
-            // Create the notification
-            ActionNotification notification = ActionNotification.createColorChangeNotification(playerName, selectedColor);
-            
-            // Position below any previous notification in top-left
-            StackPane notificationPane = notification.getNotificationPane();
-            notificationPane.setLayoutX(20); // Fixed left margin
-            notificationPane.setLayoutY(100); // Position below general notifications
-            
-            // Add to parent and show
-            parentPane.getChildren().add(notificationPane);
-            notification.show();
-        });
+        Platform.runLater(() -> enqueue(new PendingNotification(playerName, "changes color to " + selectedColor, false, false)));
     }
     
     /**
@@ -78,19 +107,121 @@ public class NotificationManager {
      */
     public void showUnoCallNotification(String playerName) {
         // Run on JavaFX thread to avoid threading issues
-        Platform.runLater(() -> {
-            // Create the notification
-            ActionNotification notification = ActionNotification.createUnoCallNotification(playerName);
+        Platform.runLater(() -> enqueue(new PendingNotification(playerName, "calls UNO!", true, true)));
+    }
+    
+    /**
+     * Adds a notification to the queue, merging it with a queued notification from the same player if possible.
+     * 
+     * @param notification The notification to add
+     */
+    private void enqueue(PendingNotification notification) {
+        // Toasts would only flash by in instant mode
+        if (AnimationClock.getInstance().isInstant()) {
+            return;
+        }
+        
+        for (PendingNotification queued : queue) {
+            if (!queued.playerName.equals(notification.playerName) || queued.isUnoCall != notification.isUnoCall) {
+                continue;
+            }
+            
+            // Same event already waiting, nothing to add
+            if (queued.message.equals(notification.message) || queued.isUnoCall) {
+                return;
+            }
+            
+            // Related events from the same player become one toast
+            queued.message = queued.message + " and " + notification.message;
+            return;
+        }
+        
+        // Keep the queue bounded by dropping the oldest notification that is not a UNO call
+        if (queue.size() >= MAX_QUEUED) {
+            PendingNotification dropped = null;
+            for (PendingNotification queued : queue) {
+                if (!queued.isUnoCall) {
+                    dropped = queued;
+                    break;
+                }
+            }
+            queue.remove(dropped != null ? dropped : queue.peekFirst());
+        }
+        
+        queue.addLast(notification);
+        
+        // Wait briefly so events from the same play can be merged
+        if (coalesceTimer.getStatus() != Animation.Status.RUNNING) {
+            coalesceTimer.playFromStart();
+        }
+    }
+    
+    /**
+     * Shows queued notifications while there are free notification panes.
+     */
+    private void showQueuedNotifications() {
+        while (!queue.isEmpty()) {
+            int slot = findFreeSlot();
+            if (slot < 0) {
+                // All panes are busy, the next one to finish will continue
+                return;
+            }
             
-            // Position in top-left but with priority (UNO calls are important)
-            StackPane notificationPane = notification.getNotificationPane();
-            notificationPane.setLayoutX(20); // Fixed left margin 
-            notificationPane.setLayoutY(20); // Same as regular notifications
+            PendingNotification next = queue.pollFirst();
+            showInSlot(slot, next);
+        }
+    }
+    
+    /**
+     * Finds a notification pane that is not being shown.
+     * 
+     * @return The slot index, or -1 if all panes are busy
+     */
+    private int findFreeSlot() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (!slotBusy[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Shows a notification in the given slot, creating the slot's pane on first use.
+     * 
+     * @param slot The slot index
+     * @param notification The notification to show
+     */
+    private void showInSlot(int slot, PendingNotification notification) {
+        ActionNotification pane = slots[slot];
+        
+        if (pane == null) {
+            pane = new ActionNotification(notification.playerName, notification.message, notification.isUrgent);
+            pane.setOnHidden(() -> {
+                slotBusy[slot] = false;
+                slots[slot].getNotificationPane().setVisible(false);
+                showQueuedNotifications();
+            });
             
-            // Add to parent and show
+            // Position in top-left corner of the screen, one row per slot
+            StackPane notificationPane = pane.getNotificationPane();
+            notificationPane.setLayoutX(SLOT_X);
+            notificationPane.setLayoutY(SLOT_Y + slot * SLOT_SPACING);
+            notificationPane.setMouseTransparent(true);
+            slots[slot] = pane;
+        } else {
+            pane.configure(notification.playerName, notification.message, notification.isUrgent);
+        }
+        
+        StackPane notificationPane = pane.getNotificationPane();
+        if (notificationPane.getParent() != parentPane) {
             parentPane.getChildren().add(notificationPane);
-            notification.show();
-        });
+        }
+        notificationPane.setVisible(true);
+        notificationPane.toFront();
+        
+        slotBusy[slot] = true;
+        pane.show();
     }
     
     /**
@@ -123,9 +254,9 @@ public class NotificationManager {
             case WILD:
                 if (card.getColor() == CardColor.MULTI) {
                     return "plays a WILD card";
-                } else {
-                    return "color is now " + card.getColor();
                 }
+                // The color change has its own notification
+                return null;
                 
             default:
                 // Don't show notifications for regular number cards
@@ -147,7 +278,8 @@ public class NotificationManager {
      * @param selectedColor The selected color (for wild cards)
      */
     public void showCardPlayNotifications(Card card, String playerName, String targetPlayerName, CardColor selectedColor) {
-        // Show wild card color notification separately to ensure it's always displayed
+        // Show wild card color notification separately to ensure it's always displayed;
+        // the queue merges it with the action notification into a single toast
         if (card.isWildCard() && selectedColor != CardColor.MULTI) {
             showColorSelectionNotification(playerName, selectedColor);
         }
@@ -165,15 +297,28 @@ public class NotificationManager {
      * @param message The explanation message
      */
     public void showCardUnplayableNotification(String message) {
-        ActionNotification notification = ActionNotification.createUnplayableCardNotification(message);
-        notification.getNotificationPane().setStyle("-fx-background-color: rgba(211, 47, 47, 0.9);"); // Red background for errors
+        // Reuse a single notification, so repeated clicks replace the message instead of stacking
+        if (unplayableNotification == null) {
+            unplayableNotification = ActionNotification.createUnplayableCardNotification(message);
+            unplayableNotification.getNotificationPane().setStyle("-fx-background-color: rgba(211, 47, 47, 0.9);"); // Red background for errors
+            unplayableNotification.getNotificationPane().setMouseTransparent(true);
+            unplayableNotification.setOnHidden(() -> unplayableNotification.getNotificationPane().setVisible(false));
+            
+            // Add notification to the overlay
+            AnchorPane.setTopAnchor(unplayableNotification.getNotificationPane(), 120.0);
+            AnchorPane.setRightAnchor(unplayableNotification.getNotificationPane(), 10.0);
+        } else {
+            unplayableNotification.configure("", message, true);
+        }
         
-        // Add notification to the overlay
-        AnchorPane.setTopAnchor(notification.getNotificationPane(), 120.0);
-        AnchorPane.setRightAnchor(notification.getNotificationPane(), 10.0);
-        parentPane.getChildren().add(notification.getNotificationPane());
+        StackPane notificationPane = unplayableNotification.getNotificationPane();
+        if (notificationPane.getParent() != parentPane) {
+            parentPane.getChildren().add(notificationPane);
+        }
+        notificationPane.setVisible(true);
+        notificationPane.toFront();
         
         // Show the notification
-        notification.show();
+        unplayableNotification.show();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,492 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Toggleable overlay that shows rendering cost of the game view.
+ * Displays FPS, a histogram of pulse intervals, the scene-graph node count under the game pane,
+ * running animations, click-to-feedback latency and JVM heap/GC activity, flags hitches over a
+ * configurable threshold and can write a per-frame CSV trace to disk.
+ */
+public class PerformanceOverlay {
+
+    /**
+     * Code sections whose time is reported per frame.
+     */
+    public enum Section {
+        UPDATE_UI,
+        CARD_RENDER
+    }
+
+    // Upper bounds (ms) of the pulse interval histogram buckets, the last bucket is open ended
+    private static final double[] BUCKET_LIMITS_MS = {8.4, 16.7, 33.4, 50.0, 100.0};
+    private static final String[] BUCKET_LABELS = {" <8ms", "<17ms", "<33ms", "<50ms", "<100ms", ">100ms"};
+
+    // Number of recent frames covered by the histogram
+    private static final int WINDOW_SIZE = 300;
+
+    // How often the overlay text and the node count are refreshed
+    private static final long TEXT_REFRESH_NANOS = 250_000_000L;
+    private static final long NODE_COUNT_REFRESH_NANOS = 500_000_000L;
+
+    private static final String NORMAL_STYLE = "-fx-background-color: rgba(0, 0, 0, 0.75); -fx-background-radius: 8; -fx-padding: 8;";
+    private static final String HITCH_STYLE = "-fx-background-color: rgba(160, 20, 20, 0.85); -fx-background-radius: 8; -fx-padding: 8;";
+
+    // Per-frame section timings, only collected while an overlay is measuring
+    private static final long[] sectionNanos = new long[Section.values().length];
+    private static boolean sectionsEnabled = false;
+
+    // Click-to-feedback latency, collected whether or not an overlay is showing
+    private static double lastInputLatencyMs = 0;
+    private static double worstInputLatencyMs = 0;
+    private static double totalInputLatencyMs = 0;
+    private static long inputLatencyCount = 0;
+    private static double frameInputLatencyMs = 0;
+
+    // Collector beans, looked up once
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final Pane gamePane;
+    private final VBox overlayPane;
+    private final Label statsLabel;
+    private final double hitchThresholdMs;
+
+    // Ring buffer of recent frame intervals
+    private final double[] frameTimesMs = new double[WINDOW_SIZE];
+    private int frameCount = 0;
+
+    private long lastFrameNanos = 0;
+    private long lastTextRefreshNanos = 0;
+    private long lastNodeCountNanos = 0;
+    private long hitchCount = 0;
+    private double lastHitchMs = 0;
+    private int nodeCount = 0;
+
+    // GC counters at the previous text refresh
+    private long lastGcCount = 0;
+    private long lastGcTimeMs = 0;
+    private long gcCountDelta = 0;
+    private long gcTimeDelta = 0;
+
+    // GC totals from the last readGcTotals() call
+    private long gcTotalCount = 0;
+    private long gcTotalTimeMs = 0;
+
+    private boolean visible = false;
+    private BufferedWriter traceWriter;
+    private Path tracePath;
+    private long traceFrameIndex = 0;
+
+    // Reused for every trace row so tracing does not allocate per frame
+    private final StringBuilder traceRow = new StringBuilder(128);
+    private char[] traceChars = new char[128];
+
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onFrame(now);
+        }
+    };
+
+    /**
+     * Creates a new performance overlay for the game pane.
+     * The overlay starts hidden.
+     *
+     * @param gamePane The game pane to measure and to show the overlay on
+     */
+    public PerformanceOverlay(Pane gamePane) {
+        this.gamePane = gamePane;
+        this.hitchThresholdMs = Double.parseDouble(System.getProperty(
+                "uno.hitchThresholdMs", String.valueOf(AppConfig.PERF_HITCH_THRESHOLD_MS)));
+
+        statsLabel = new Label();
+        statsLabel.setStyle("-fx-font-family: 'Monospaced'; -fx-font-size: 12px; -fx-text-fill: white;");
+
+        overlayPane = new VBox(statsLabel);
+        overlayPane.setStyle(NORMAL_STYLE);
+        overlayPane.setMouseTransparent(true);
+        overlayPane.setVisible(false);
+        AnchorPane.setBottomAnchor(overlayPane, 10.0);
+        AnchorPane.setLeftAnchor(overlayPane, 10.0);
+    }
+
+    /**
+     * Records time spent in a code section during the current frame.
+     * Does nothing unless an overlay is measuring.
+     *
+     * @param section The section that ran
+     * @param nanos The time spent, in nanoseconds
+     */
+    public static void recordSection(Section section, long nanos) {
+        if (sectionsEnabled) {
+            sectionNanos[section.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Records the time from a user action to the first frame laid out with its visible result.
+     *
+     * @param nanos The latency, in nanoseconds
+     */
+    public static void recordInputLatency(long nanos) {
+        double latencyMs = nanos / 1_000_000.0;
+        lastInputLatencyMs = latencyMs;
+        worstInputLatencyMs = Math.max(worstInputLatencyMs, latencyMs);
+        totalInputLatencyMs += latencyMs;
+        inputLatencyCount++;
+        frameInputLatencyMs = latencyMs;
+    }
+
+    /**
+     * Checks whether section timings are being collected.
+     *
+     * @return true if an overlay is measuring
+     */
+    public static boolean isMeasuring() {
+        return sectionsEnabled;
+    }
+
+    /**
+     * Shows or hides the overlay.
+     */
+    public void toggle() {
+        setVisible(!visible);
+    }
+
+    /**
+     * Shows or hides the overlay.
+     *
+     * @param visible Whether the overlay should be shown
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        overlayPane.setVisible(visible);
+
+        if (visible) {
+            if (overlayPane.getParent() != gamePane) {
+                gamePane.getChildren().add(overlayPane);
+            }
+            overlayPane.toFront();
+        }
+
+        updateTimerState();
+    }
+
+    /**
+     * Starts writing a per-frame CSV trace, or stops it if one is being written.
+     */
+    public void toggleTrace() {
+        if (traceWriter != null) {
+            stopTrace();
+        } else {
+            startTrace();
+        }
+    }
+
+    /**
+     * Starts writing a per-frame CSV trace to the trace directory.
+     */
+    public void startTrace() {
+        if (traceWriter != null) {
+            return;
+        }
+
+        try {
+            Path traceDir = Paths.get(System.getProperty("uno.frameTraceDir", AppConfig.FRAME_TRACE_DIRECTORY));
+            Files.createDirectories(traceDir);
+
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            tracePath = traceDir.resolve("frame-trace-" + timestamp + ".csv");
+            traceWriter = Files.newBufferedWriter(tracePath, StandardCharsets.UTF_8);
+            traceWriter.write("frame,timestampNanos,frameMs,hitch,updateUiMs,cardRenderMs,nodeCount,runningAnimations,heapUsedBytes,gcCount,gcTimeMs,inputLatencyMs");
+            traceWriter.newLine();
+            traceFrameIndex = 0;
+
+            System.out.println("Frame trace started: " + tracePath);
+        } catch (IOException e) {
+            System.err.println("Failed to start frame trace: " + e.getMessage());
+            traceWriter = null;
+        }
+
+        updateTimerState();
+    }
+
+    /**
+     * Stops writing the per-frame CSV trace.
+     */
+    public void stopTrace() {
+        if (traceWriter == null) {
+            return;
+        }
+
+        try {
+            traceWriter.close();
+            System.out.println("Frame trace written: " + tracePath);
+        } catch (IOException e) {
+            System.err.println("Failed to close frame trace: " + e.getMessage());
+        }
+
+        traceWriter = null;
+        updateTimerState();
+    }
+
+    /**
+     * Stops measuring and closes any open trace. Call when the game view is left.
+     */
+    public void dispose() {
+        stopTrace();
+        setVisible(false);
+        gamePane.getChildren().remove(overlayPane);
+    }
+
+    /**
+     * Gets the overlay node.
+     *
+     * @return The overlay pane
+     */
+    public VBox getOverlayPane() {
+        return overlayPane;
+    }
+
+    /**
+     * Starts the frame timer while the overlay is shown or a trace is written, and stops it otherwise.
+     */
+    private void updateTimerState() {
+        boolean measuring = visible || traceWriter != null;
+
+        if (measuring && !sectionsEnabled) {
+            lastFrameNanos = 0;
+            frameTimer.start();
+        } else if (!measuring && sectionsEnabled) {
+            frameTimer.stop();
+        }
+
+        sectionsEnabled = measuring;
+    }
+
+    /**
+     * Handles a single pulse.
+     *
+     * @param now The pulse timestamp in nanoseconds
+     */
+    private void onFrame(long now) {
+        if (lastFrameNanos == 0) {
+            lastFrameNanos = now;
+            clearSections();
+            return;
+        }
+
+        double frameMs = (now - lastFrameNanos) / 1_000_000.0;
+        lastFrameNanos = now;
+
+        frameTimesMs[frameCount % WINDOW_SIZE] = frameMs;
+        frameCount++;
+
+        boolean hitch = frameMs > hitchThresholdMs;
+        if (hitch) {
+            hitchCount++;
+            lastHitchMs = frameMs;
+        }
+
+        if (now - lastNodeCountNanos >= NODE_COUNT_REFRESH_NANOS) {
+            nodeCount = countNodes(gamePane);
+            lastNodeCountNanos = now;
+        }
+
+        if (traceWriter != null) {
+            writeTraceRow(now, frameMs, hitch);
+        }
+
+        if (visible && (hitch || now - lastTextRefreshNanos >= TEXT_REFRESH_NANOS)) {
+            refreshText(now, hitch);
+        }
+
+        clearSections();
+    }
+
+    /**
+     * Writes one frame to the CSV trace.
+     */
+    private void writeTraceRow(long now, double frameMs, boolean hitch) {
+        Runtime runtime = Runtime.getRuntime();
+        readGcTotals();
+
+        StringBuilder row = traceRow;
+        row.setLength(0);
+        row.append(traceFrameIndex++).append(',')
+                .append(now).append(',');
+        appendMillis(row, frameMs).append(',')
+                .append(hitch ? 1 : 0).append(',');
+        appendMillis(row, sectionNanos[Section.UPDATE_UI.ordinal()] / 1_000_000.0).append(',');
+        appendMillis(row, sectionNanos[Section.CARD_RENDER.ordinal()] / 1_000_000.0).append(',')
+                .append(nodeCount).append(',')
+                .append(AnimationTracker.getRunningCount()).append(',')
+                .append(runtime.totalMemory() - runtime.freeMemory()).append(',')
+                .append(gcTotalCount).append(',')
+                .append(gcTotalTimeMs).append(',');
+        appendMillis(row, frameInputLatencyMs);
+
+        int length = row.length();
+        if (traceChars.length < length) {
+            traceChars = new char[length * 2];
+        }
+        row.getChars(0, length, traceChars, 0);
+
+        try {
+            traceWriter.write(traceChars, 0, length);
+            traceWriter.newLine();
+        } catch (IOException e) {
+            System.err.println("Failed to write frame trace, stopping: " + e.getMessage());
+            stopTrace();
+        }
+    }
+
+    /**
+     * Appends a millisecond value with three decimals and a '.' separator, whatever the locale.
+     *
+     * @param out The builder to append to
+     * @param millis The value to append
+     * @return The builder
+     */
+    private static StringBuilder appendMillis(StringBuilder out, double millis) {
+        long micros = Math.round(millis * 1000);
+        if (micros < 0) {
+            out.append('-');
+            micros = -micros;
+        }
+        long fraction = micros % 1000;
+        out.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            out.append('0');
+        }
+        if (fraction < 10) {
+            out.append('0');
+        }
+        return out.append(fraction);
+    }
+
+    /**
+     * Refreshes the overlay text from the collected statistics.
+     */
+    private void refreshText(long now, boolean hitch) {
+        int samples = Math.min(frameCount, WINDOW_SIZE);
+        int[] buckets = new int[BUCKET_LABELS.length];
+        double total = 0;
+        double worst = 0;
+
+        for (int i = 0; i < samples; i++) {
+            double frameMs = frameTimesMs[i];
+            total += frameMs;
+            worst = Math.max(worst, frameMs);
+            buckets[bucketFor(frameMs)]++;
+        }
+
+        double averageMs = samples > 0 ? total / samples : 0;
+        double fps = averageMs > 0 ? 1000.0 / averageMs : 0;
+
+        if (now - lastTextRefreshNanos >= TEXT_REFRESH_NANOS) {
+            readGcTotals();
+            gcCountDelta = gcTotalCount - lastGcCount;
+            gcTimeDelta = gcTotalTimeMs - lastGcTimeMs;
+            lastGcCount = gcTotalCount;
+            lastGcTimeMs = gcTotalTimeMs;
+            lastTextRefreshNanos = now;
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        long maxMb = runtime.maxMemory() / (1024 * 1024);
+
+        StringBuilder text = new StringBuilder(512);
+        text.append(String.format("FPS %5.1f   avg %5.1f ms   worst %5.1f ms%n", fps, averageMs, worst));
+        for (int i = 0; i < buckets.length; i++) {
+            int barLength = samples > 0 ? (int) Math.round(buckets[i] * 30.0 / samples) : 0;
+            text.append(String.format("%-6s %4d %s%n", BUCKET_LABELS[i], buckets[i], "#".repeat(barLength)));
+        }
+        text.append(String.format("Nodes %d   Animations %d/%d   Quality %s   Speed %s%n",
+                nodeCount, AnimationTracker.getRunningCount(), AnimationTracker.getTrackedCount(),
+                QualityGovernor.getInstance().getLevel(), AnimationClock.getInstance().describe()));
+        text.append(String.format("Heap %d/%d MB   GC +%d (%d ms)%n", usedMb, maxMb, gcCountDelta, gcTimeDelta));
+        text.append(String.format("Click->feedback last %.1f ms   avg %.1f   worst %.1f (%d)%n",
+                lastInputLatencyMs, inputLatencyCount > 0 ? totalInputLatencyMs / inputLatencyCount : 0,
+                worstInputLatencyMs, inputLatencyCount));
+        text.append(String.format("Hitches >%.0f ms: %d (last %.1f ms)", hitchThresholdMs, hitchCount, lastHitchMs));
+        if (traceWriter != null) {
+            text.append(String.format("%nTracing to %s", tracePath.getFileName()));
+        }
+
+        statsLabel.setText(text.toString());
+        overlayPane.setStyle(hitch ? HITCH_STYLE : NORMAL_STYLE);
+    }
+
+    /**
+     * Finds the histogram bucket for a frame interval.
+     */
+    private int bucketFor(double frameMs) {
+        for (int i = 0; i < BUCKET_LIMITS_MS.length; i++) {
+            if (frameMs < BUCKET_LIMITS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS_MS.length;
+    }
+
+    /**
+     * Reads the total GC count and time across all collectors into
+     * {@code gcTotalCount} and {@code gcTotalTimeMs}.
+     */
+    private void readGcTotals() {
+        long count = 0;
+        long time = 0;
+        for (int i = 0; i < GC_BEANS.size(); i++) {
+            GarbageCollectorMXBean gcBean = GC_BEANS.get(i);
+            count += Math.max(0, gcBean.getCollectionCount());
+            time += Math.max(0, gcBean.getCollectionTime());
+        }
+        gcTotalCount = count;
+        gcTotalTimeMs = time;
+    }
+
+    /**
+     * Counts the nodes in a subtree.
+     *
+     * @param node The subtree root
+     * @return The number of nodes, including the root
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static void clearSections() {
+        for (int i = 0; i < sectionNanos.length; i++) {
+            sectionNanos[i] = 0;
+        }
+        frameInputLatencyMs = 0;
+    }
+}
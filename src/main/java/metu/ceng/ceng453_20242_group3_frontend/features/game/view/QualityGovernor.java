@@ -0,0 +1,225 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.game.view;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Scene;
+
+import metu.ceng.ceng453_20242_group3_frontend.config.AppConfig;
+
+/**
+ * Adapts rendering quality to how fast frames are actually being produced.
+ * Frame intervals are measured from the scene's own pulses, so nothing is measured and no
+ * extra pulses are requested while the view is idle. When a sustained share of frames misses
+ * the budget, quality steps down one level; after several smooth windows it steps back up.
+ * The level can be pinned with the "uno.quality" system property (HIGH, MEDIUM, LOW or MINIMAL).
+ */
+public class QualityGovernor {
+
+    /**
+     * Rendering quality levels, from full detail down to the cheapest rendering.
+     */
+    public enum QualityLevel {
+        HIGH(true, true, 1.0, false),
+        MEDIUM(false, true, 1.0, false),
+        LOW(false, false, 1.5, false),
+        MINIMAL(false, false, 2.0, true);
+
+        private final boolean cardEffects;
+        private final boolean flightRotation;
+        private final double transitionRate;
+        private final boolean opponentCountBadges;
+
+        QualityLevel(boolean cardEffects, boolean flightRotation, double transitionRate, boolean opponentCountBadges) {
+            this.cardEffects = cardEffects;
+            this.flightRotation = flightRotation;
+            this.transitionRate = transitionRate;
+            this.opponentCountBadges = opponentCountBadges;
+        }
+
+        /**
+         * @return true if cards are drawn with inner shadows and playable highlights
+         */
+        public boolean hasCardEffects() {
+            return cardEffects;
+        }
+
+        /**
+         * @return true if played cards rotate while flying to the discard pile
+         */
+        public boolean hasFlightRotation() {
+            return flightRotation;
+        }
+
+        /**
+         * @return The playback rate for card transitions; higher rates finish sooner
+         */
+        public double getTransitionRate() {
+            return transitionRate;
+        }
+
+        /**
+         * @return true if opponent hands are shown as a single card with a count badge
+         */
+        public boolean usesOpponentCountBadges() {
+            return opponentCountBadges;
+        }
+    }
+
+    // Number of frames evaluated before deciding on a level change
+    private static final int WINDOW_FRAMES = 60;
+
+    // A frame counts as missed when it takes this much longer than the budget
+    private static final double MISS_FACTOR = 1.5;
+
+    // Share of missed frames in a window that triggers a step down
+    private static final double STEP_DOWN_MISS_RATIO = 0.25;
+
+    // Share of missed frames in a window that still counts as smooth
+    private static final double SMOOTH_MISS_RATIO = 0.05;
+
+    // Number of consecutive smooth windows required before stepping back up
+    private static final int SMOOTH_WINDOWS_TO_STEP_UP = 5;
+
+    // Gaps longer than this mean the view was idle, not slow
+    private static final long IDLE_GAP_NANOS = 250_000_000L;
+
+    private static QualityGovernor instance;
+
+    private final ObjectProperty<QualityLevel> level = new SimpleObjectProperty<>(QualityLevel.HIGH);
+    private final boolean pinned;
+    private final long missThresholdNanos;
+    private final Runnable pulseListener = this::onPulse;
+
+    private Scene scene;
+    private long lastPulseNanos = 0;
+    private int windowFrames = 0;
+    private int windowMisses = 0;
+    private int smoothWindows = 0;
+
+    // Private constructor for singleton pattern
+    private QualityGovernor() {
+        missThresholdNanos = (long) (AppConfig.QUALITY_FRAME_BUDGET_MS * MISS_FACTOR * 1_000_000);
+
+        String pinnedLevel = System.getProperty("uno.quality");
+        boolean isPinned = false;
+        if (pinnedLevel != null) {
+            try {
+                level.set(QualityLevel.valueOf(pinnedLevel.trim().toUpperCase()));
+                isPinned = true;
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown quality level: " + pinnedLevel);
+            }
+        }
+        pinned = isPinned;
+    }
+
+    // Get singleton instance
+    public static QualityGovernor getInstance() {
+        if (instance == null) {
+            instance = new QualityGovernor();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the current quality level.
+     *
+     * @return The current level
+     */
+    public QualityLevel getLevel() {
+        return level.get();
+    }
+
+    /**
+     * Gets the current quality level as an observable property.
+     *
+     * @return The level property
+     */
+    public ReadOnlyObjectProperty<QualityLevel> levelProperty() {
+        return level;
+    }
+
+    /**
+     * Starts watching the frames of the given scene. Any previously watched scene is released.
+     *
+     * @param newScene The scene to watch
+     */
+    public void attach(Scene newScene) {
+        detach();
+        if (pinned || newScene == null) {
+            return;
+        }
+
+        scene = newScene;
+        resetWindow();
+        scene.addPostLayoutPulseListener(pulseListener);
+    }
+
+    /**
+     * Stops watching frames. The current level is kept for the next game.
+     */
+    public void detach() {
+        if (scene != null) {
+            scene.removePostLayoutPulseListener(pulseListener);
+            scene = null;
+        }
+    }
+
+    /**
+     * Measures the interval since the previous pulse and evaluates the window once it is full.
+     */
+    private void onPulse() {
+        long now = System.nanoTime();
+        long interval = now - lastPulseNanos;
+        lastPulseNanos = now;
+
+        if (interval > IDLE_GAP_NANOS) {
+            // First frame after an idle period
+            return;
+        }
+
+        windowFrames++;
+        if (interval > missThresholdNanos) {
+            windowMisses++;
+        }
+
+        if (windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+
+        double missRatio = (double) windowMisses / windowFrames;
+        QualityLevel current = level.get();
+
+        if (missRatio >= STEP_DOWN_MISS_RATIO) {
+            smoothWindows = 0;
+            if (current.ordinal() < QualityLevel.values().length - 1) {
+                setLevel(QualityLevel.values()[current.ordinal() + 1], missRatio);
+            }
+        } else if (missRatio <= SMOOTH_MISS_RATIO) {
+            smoothWindows++;
+            if (smoothWindows >= SMOOTH_WINDOWS_TO_STEP_UP && current.ordinal() > 0) {
+                smoothWindows = 0;
+                setLevel(QualityLevel.values()[current.ordinal() - 1], missRatio);
+            }
+        } else {
+            smoothWindows = 0;
+        }
+
+        windowFrames = 0;
+        windowMisses = 0;
+    }
+
+    private void setLevel(QualityLevel newLevel, double missRatio) {
+        System.out.println(String.format("Rendering quality %s -> %s (%.0f%% of frames over budget)",
+                level.get(), newLevel, missRatio * 100));
+        level.set(newLevel);
+    }
+
+    private void resetWindow() {
+        lastPulseNanos = 0;
+        windowFrames = 0;
+        windowMisses = 0;
+        smoothWindows = 0;
+    }
+}
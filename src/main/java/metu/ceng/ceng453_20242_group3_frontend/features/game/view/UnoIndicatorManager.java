@@ -10,48 +10,69 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import metu.ceng.ceng453_20242_group3_frontend.features.game.model.Player;
 
 /**
  * Manages UNO indicators for player name labels.
+ * Each seat has one persistent badge that is only shown, hidden and pulsed when its state changes.
  */
 public class UnoIndicatorManager {
     
+    // Pauses the badge pulses while the window is not being watched
+    private final AnimationLifecycleManager lifecycleManager;
+    
     // Player name labels
     private final Label topPlayerNameLabel;
     private final Label leftPlayerNameLabel;
     private final Label rightPlayerNameLabel;
     private final Label bottomPlayerNameLabel;
     
+    // Persistent badges for each seat label
+    private final Map<Label, UnoBadge> badges = new HashMap<>();
+    
+    /**
+     * A UNO badge and its pulse animation, created once per seat.
+     */
+    private static final class UnoBadge {
+        private final StackPane indicator;
+        private final ScaleTransition pulse;
+        private boolean showing;
+        
+        private UnoBadge(StackPane indicator, ScaleTransition pulse) {
+            this.indicator = indicator;
+            this.pulse = pulse;
+        }
+    }
+    
     /**
      * Creates a new UNO indicator manager.
      * 
-     * @param topPlayerNameLabel The top player's name label
-     * @param leftPlayerNameLabel The left player's name label
-     * @param rightPlayerNameLabel The right player's name label
-     * @param bottomPlayerNameLabel The bottom player's name label
+     * @param viewRegistry The registry holding the player name labels
+     * @param lifecycleManager The manager that pauses the badge pulses when they are not visible
      */
-    public UnoIndicatorManager(
-            Label topPlayerNameLabel,
-            Label leftPlayerNameLabel,
-            Label rightPlayerNameLabel,
-            Label bottomPlayerNameLabel) {
-        this.topPlayerNameLabel = topPlayerNameLabel;
-        this.leftPlayerNameLabel = leftPlayerNameLabel;
-        this.rightPlayerNameLabel = rightPlayerNameLabel;
-        this.bottomPlayerNameLabel = bottomPlayerNameLabel;
+    public UnoIndicatorManager(GameViewRegistry viewRegistry, AnimationLifecycleManager lifecycleManager) {
+        this.lifecycleManager = lifecycleManager;
+        this.topPlayerNameLabel = viewRegistry.getTopPlayerNameLabel();
+        this.leftPlayerNameLabel = viewRegistry.getLeftPlayerNameLabel();
+        this.rightPlayerNameLabel = viewRegistry.getRightPlayerNameLabel();
+        this.bottomPlayerNameLabel = viewRegistry.getBottomPlayerNameLabel();
     }
     
     /**
      * Updates UNO indicators for all players based on their UNO status.
+     * Only seats whose status changed since the last update are touched.
      * 
      * @param players The list of players
      */
     public void updateUnoIndicators(List<Player> players) {
-        // Remove any existing UNO indicators first
-        removeExistingUnoIndicators();
+        boolean showBottom = false;
+        boolean showTop = false;
+        boolean showLeft = false;
+        boolean showRight = false;
         
         // Check each player's UNO status
         int totalPlayers = players.size();
@@ -62,60 +83,103 @@ public class UnoIndicatorManager {
             // Update the player's UNO indicator status first
             player.updateUnoIndicator();
             
-            // Show UNO indicator if player has indicator enabled
-            if (player.shouldShowUnoIndicator()) {
-                if (i == 0) {
-                    // Human player (always at bottom)
-                    addUnoIndicatorToLabel(bottomPlayerNameLabel);
-                } else if (totalPlayers == 2) {
-                    // 2 players: human at bottom, AI at top
-                    if (i == 1) {
-                        addUnoIndicatorToLabel(topPlayerNameLabel);
-                    }
-                } else if (totalPlayers == 3) {
-                    // 3 players: human at bottom, opponent 1 at right, opponent 2 at top
-                    if (i == 1) {
-                        addUnoIndicatorToLabel(rightPlayerNameLabel);
-                    } else if (i == 2) {
-                        addUnoIndicatorToLabel(topPlayerNameLabel);
-                    }
-                } else if (totalPlayers == 4) {
-                    // 4 players: human at bottom, opponent 1 at right, opponent 2 at top, opponent 3 at left
-                    if (i == 1) {
-                        addUnoIndicatorToLabel(rightPlayerNameLabel);
-                    } else if (i == 2) {
-                        addUnoIndicatorToLabel(topPlayerNameLabel);
-                    } else if (i == 3) {
-                        addUnoIndicatorToLabel(leftPlayerNameLabel);
-                    }
+            if (!player.shouldShowUnoIndicator()) {
+                continue;
+            }
+            
+            if (i == 0) {
+                // Human player (always at bottom)
+                showBottom = true;
+            } else if (totalPlayers == 2) {
+                // 2 players: human at bottom, AI at top
+                if (i == 1) {
+                    showTop = true;
+                }
+            } else if (totalPlayers == 3) {
+                // 3 players: human at bottom, opponent 1 at right, opponent 2 at top
+                if (i == 1) {
+                    showRight = true;
+                } else if (i == 2) {
+                    showTop = true;
+                }
+            } else if (totalPlayers == 4) {
+                // 4 players: human at bottom, opponent 1 at right, opponent 2 at top, opponent 3 at left
+                if (i == 1) {
+                    showRight = true;
+                } else if (i == 2) {
+                    showTop = true;
+                } else if (i == 3) {
+                    showLeft = true;
                 }
             }
         }
+        
+        setUnoIndicatorVisible(bottomPlayerNameLabel, showBottom);
+        setUnoIndicatorVisible(topPlayerNameLabel, showTop);
+        setUnoIndicatorVisible(leftPlayerNameLabel, showLeft);
+        setUnoIndicatorVisible(rightPlayerNameLabel, showRight);
     }
     
     /**
      * Removes any existing UNO indicator badges from all player name labels.
      */
     public void removeExistingUnoIndicators() {
-        // Remove graphics from all name labels
         for (Label nameLabel : new Label[]{bottomPlayerNameLabel, topPlayerNameLabel, leftPlayerNameLabel, rightPlayerNameLabel}) {
-            if (nameLabel != null) {
-                // Remove the UNO indicator graphic
-                nameLabel.setGraphic(null);
-                nameLabel.setGraphicTextGap(0);
-                nameLabel.setContentDisplay(ContentDisplay.LEFT);
-            }
+            setUnoIndicatorVisible(nameLabel, false);
         }
     }
     
     /**
-     * Adds a UNO indicator badge DIRECTLY INSIDE the player name label.
+     * Shows or hides the UNO badge of a seat. Does nothing if the badge is already in that state.
      * 
-     * @param nameLabel The name label to add the indicator to
+     * @param nameLabel The seat's name label
+     * @param visible Whether the badge should be shown
      */
-    private void addUnoIndicatorToLabel(Label nameLabel) {
+    private void setUnoIndicatorVisible(Label nameLabel, boolean visible) {
         if (nameLabel == null) return;
         
+        UnoBadge badge = badges.get(nameLabel);
+        if (badge == null) {
+            if (!visible) {
+                return;
+            }
+            badge = createUnoBadge();
+            badges.put(nameLabel, badge);
+        }
+        
+        if (badge.showing == visible) {
+            return;
+        }
+        badge.showing = visible;
+        
+        if (visible) {
+            // Set the indicator as the graphic of the name label
+            // Position depends on whether it's a side player or top/bottom player
+            nameLabel.setGraphic(badge.indicator);
+            nameLabel.setGraphicTextGap(10);
+            if (nameLabel == rightPlayerNameLabel) {
+                nameLabel.setContentDisplay(ContentDisplay.LEFT); // Add graphic to the left of text
+            } else {
+                nameLabel.setContentDisplay(ContentDisplay.RIGHT); // Add graphic to the right of text
+            }
+            
+            // Start the animation
+            badge.pulse.playFromStart();
+        } else {
+            // Stop the animation and remove the UNO indicator graphic
+            badge.pulse.stop();
+            nameLabel.setGraphic(null);
+            nameLabel.setGraphicTextGap(0);
+            nameLabel.setContentDisplay(ContentDisplay.LEFT);
+        }
+    }
+    
+    /**
+     * Creates a UNO indicator badge with its pulsing animation.
+     * 
+     * @return The badge
+     */
+    private UnoBadge createUnoBadge() {
         // Create the UNO indicator as a StackPane
         StackPane indicator = new StackPane();
         indicator.setMaxWidth(30);
@@ -145,38 +209,18 @@ public class UnoIndicatorManager {
         pulse.setToY(1.2);
         pulse.setCycleCount(Animation.INDEFINITE);
         pulse.setAutoReverse(true);
+        lifecycleManager.registerDecorative(pulse);
         
-        // Set the indicator as the graphic of the name label
-        // Position depends on whether it's a side player or top/bottom player
-        if (nameLabel == leftPlayerNameLabel) {
-            nameLabel.setGraphic(indicator);
-            nameLabel.setGraphicTextGap(10);
-            nameLabel.setContentDisplay(ContentDisplay.RIGHT); // Add graphic to the right of text
-        } else if (nameLabel == rightPlayerNameLabel) {
-            nameLabel.setGraphic(indicator);
-            nameLabel.setGraphicTextGap(10);
-            nameLabel.setContentDisplay(ContentDisplay.LEFT); // Add graphic to the left of text
-        } else { // Top or bottom player
-            nameLabel.setGraphic(indicator);
-            nameLabel.setGraphicTextGap(10);
-            nameLabel.setContentDisplay(ContentDisplay.RIGHT); // Add graphic to the right of text
-        }
-        
-        // Start the animation
-        pulse.play();
+        return new UnoBadge(indicator, pulse);
     }
     
     /**
      * Shows UNO indicators for all positions for testing purposes.
      */
     public void showTestUnoIndicators() {
-        // First remove any existing indicators
-        removeExistingUnoIndicators();
-        
-        // Then add indicators for all player positions
-        addUnoIndicatorToLabel(bottomPlayerNameLabel);
-        addUnoIndicatorToLabel(topPlayerNameLabel);
-        addUnoIndicatorToLabel(leftPlayerNameLabel);
-        addUnoIndicatorToLabel(rightPlayerNameLabel);
+        setUnoIndicatorVisible(bottomPlayerNameLabel, true);
+        setUnoIndicatorVisible(topPlayerNameLabel, true);
+        setUnoIndicatorVisible(leftPlayerNameLabel, true);
+        setUnoIndicatorVisible(rightPlayerNameLabel, true);
     }
-} 
\ No newline at end of file
+}
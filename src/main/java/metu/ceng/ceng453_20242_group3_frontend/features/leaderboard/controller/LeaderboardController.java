@@ -2,19 +2,16 @@ package metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.controller;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.Consumer;
 
-import javafx.animation.FadeTransition;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
-import javafx.concurrent.Task;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ProgressIndicator;
@@ -23,16 +20,15 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
-import javafx.stage.Stage;
-import javafx.util.Duration;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.SessionManager;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ViewManager;
 import metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.model.LeaderboardEntry;
 import metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.service.LeaderboardService;
 
 /**
  * Controller for the leaderboard view.
  */
-public class LeaderboardController implements Initializable {
+public class LeaderboardController implements Initializable, ViewManager.ShowListener {
     
     @FXML
     private StackPane leaderboardPane;
@@ -89,8 +85,20 @@ public class LeaderboardController implements Initializable {
     private Button backButton;
     
     private LeaderboardService leaderboardService;
+    // Only used on the JavaFX thread; concurrent identical requests are also shared by ApiClient
     private boolean isDataLoading = false;
     
+    // Leaderboards of the current load that have not finished yet
+    private int pendingLoads = 0;
+    
+    /**
+     * A leaderboard call of the {@link LeaderboardService}.
+     */
+    private interface LeaderboardRequest {
+        void send(Consumer<List<LeaderboardEntry>> onCached, Consumer<List<LeaderboardEntry>> onSuccess,
+                  Consumer<String> onError);
+    }
+    
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         leaderboardService = new LeaderboardService();
@@ -130,20 +138,18 @@ public class LeaderboardController implements Initializable {
                     break;
             }
         });
+    }
+    
+    /**
+     * Reloads the rankings each time the leaderboard is shown, since the view is reused.
+     */
+    @Override
+    public void onViewShown() {
+        // Load the latest data
+        loadLeaderboardData();
         
-        // Create fade-in animation for initial load
-        Platform.runLater(() -> {
-            FadeTransition fadeIn = new FadeTransition(Duration.millis(300), leaderboardPane);
-            fadeIn.setFromValue(0.0);
-            fadeIn.setToValue(1.0);
-            fadeIn.play();
-            
-            // Load initial data
-            loadLeaderboardData();
-            
-            // Request focus to enable keyboard navigation
-            leaderboardPane.requestFocus();
-        });
+        // Request focus to enable keyboard navigation
+        leaderboardPane.requestFocus();
     }
     
     /**
@@ -256,71 +262,59 @@ public class LeaderboardController implements Initializable {
             loadingIndicator.setVisible(true);
         }
         
-        // Create a task to load all leaderboard data
-        Task<Void> loadTask = new Task<>() {
-            @Override
-            protected Void call() {
-                // Load weekly leaderboard
-                leaderboardService.getWeeklyLeaderboard(
-                    weeklyData -> {
-                        Platform.runLater(() -> {
-                            weeklyTable.setItems(FXCollections.observableArrayList(weeklyData));
-                            highlightCurrentUserAndTopRanks(weeklyTable);
-                        });
-                    },
-                    error -> {
-                        Platform.runLater(() -> {
-                            showAlert(Alert.AlertType.ERROR, "Error", "Failed to load weekly leaderboard: " + error);
-                        });
-                    }
-                );
-                
-                // Load monthly leaderboard
-                leaderboardService.getMonthlyLeaderboard(
-                    monthlyData -> {
-                        Platform.runLater(() -> {
-                            monthlyTable.setItems(FXCollections.observableArrayList(monthlyData));
-                            highlightCurrentUserAndTopRanks(monthlyTable);
-                        });
-                    },
-                    error -> {
-                        Platform.runLater(() -> {
-                            showAlert(Alert.AlertType.ERROR, "Error", "Failed to load monthly leaderboard: " + error);
-                        });
-                    }
-                );
-                
-                // Load all-time leaderboard
-                leaderboardService.getAllTimeLeaderboard(
-                    allTimeData -> {
-                        Platform.runLater(() -> {
-                            allTimeTable.setItems(FXCollections.observableArrayList(allTimeData));
-                            highlightCurrentUserAndTopRanks(allTimeTable);
-                            
-                            // Hide loading indicator when all data is loaded
-                            if (loadingIndicator != null) {
-                                loadingIndicator.setVisible(false);
-                            }
-                            isDataLoading = false;
-                        });
-                    },
-                    error -> {
-                        Platform.runLater(() -> {
-                            showAlert(Alert.AlertType.ERROR, "Error", "Failed to load all-time leaderboard: " + error);
-                            if (loadingIndicator != null) {
-                                loadingIndicator.setVisible(false);
-                            }
-                            isDataLoading = false;
-                        });
-                    }
-                );
-                
-                return null;
-            }
-        };
-        
-        // Start the loading task
-        new Thread(loadTask).start();
+        // The requests are asynchronous, so they are started right here
+        pendingLoads = 3;
+        loadLeaderboard(leaderboardService::getWeeklyLeaderboard, weeklyTable, "weekly");
+        loadLeaderboard(leaderboardService::getMonthlyLeaderboard, monthlyTable, "monthly");
+        loadLeaderboard(leaderboardService::getAllTimeLeaderboard, allTimeTable, "all-time");
+    }
+    
+    /**
+     * Loads one leaderboard into its table. A stored copy is shown while the current one loads;
+     * if loading then fails, the stored rows stay on screen and no alert is shown.
+     * 
+     * @param request The service call for the leaderboard
+     * @param table The table to fill
+     * @param name The leaderboard name, for error messages
+     */
+    private void loadLeaderboard(LeaderboardRequest request, TableView<LeaderboardEntry> table, String name) {
+        boolean[] showingCached = new boolean[1];
+        request.send(
+            cachedData -> Platform.runLater(() -> {
+                showingCached[0] = true;
+                showEntries(table, cachedData);
+            }),
+            data -> Platform.runLater(() -> {
+                showEntries(table, data);
+                finishLoad();
+            }),
+            error -> Platform.runLater(() -> {
+                if (showingCached[0]) {
+                    System.err.println("Showing the stored " + name + " leaderboard: " + error);
+                } else {
+                    showAlert(Alert.AlertType.ERROR, "Error", "Failed to load " + name + " leaderboard: " + error);
+                }
+                finishLoad();
+            })
+        );
+    }
+    
+    private void showEntries(TableView<LeaderboardEntry> table, List<LeaderboardEntry> entries) {
+        table.setItems(FXCollections.observableArrayList(entries));
+        highlightCurrentUserAndTopRanks(table);
+    }
+    
+    /**
+     * Hides the loading indicator once every leaderboard has finished loading.
+     */
+    private void finishLoad() {
+        if (--pendingLoads > 0) {
+            return;
+        }
+        if (loadingIndicator != null) {
+            loadingIndicator.setVisible(false);
+        }
+        isDataLoading = false;
     }
     
     /**
@@ -328,31 +322,7 @@ public class LeaderboardController implements Initializable {
      */
     private void navigateToMainMenu() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/main-menu-view.fxml"));
-            Parent root = loader.load();
-            
-            Scene scene = new Scene(root);
-            
-            // Apply CSS styling
-            URL cssUrl = getClass().getResource("/metu/ceng/ceng453_20242_group3_frontend/css/imports.css");
-            if (cssUrl != null) {
-                scene.getStylesheets().add(cssUrl.toExternalForm());
-            }
-            
-            // Add the fade transition class
-            root.getStyleClass().add("fade-transition");
-            
-            Stage stage = (Stage) leaderboardPane.getScene().getWindow();
-            stage.setScene(scene);
-            
-            // Animate the fade in
-            Platform.runLater(() -> {
-                FadeTransition fadeIn = new FadeTransition(Duration.millis(300), root);
-                fadeIn.setFromValue(0.0);
-                fadeIn.setToValue(1.0);
-                fadeIn.play();
-            });
-            
+            ViewManager.getInstance().show(ViewManager.View.MAIN_MENU);
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", 
                       "Could not navigate to main menu: " + e.getMessage());
@@ -1,5 +1,8 @@
 package metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Model class representing an entry in the leaderboard.
  */
@@ -14,6 +17,18 @@ public class LeaderboardEntry {
         this.score = score;
     }
     
+    /**
+     * Creates an entry from the leaderboard API, which does not send ranks.
+     * The rank is assigned once the entries are sorted.
+     * 
+     * @param username The player's username
+     * @param score The player's score
+     */
+    @JsonCreator
+    public LeaderboardEntry(@JsonProperty("username") String username, @JsonProperty("score") int score) {
+        this(0, username, score);
+    }
+    
     public int getRank() {
         return rank;
     }
@@ -2,13 +2,14 @@ package metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
 
+import metu.ceng.ceng453_20242_group3_frontend.features.common.model.ApiResponse;
 import metu.ceng.ceng453_20242_group3_frontend.features.common.util.ApiClient;
+import metu.ceng.ceng453_20242_group3_frontend.features.common.util.HttpClientManager;
 import metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.model.LeaderboardEntry;
 
 /**
@@ -16,110 +17,115 @@ import metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.model.Leader
  */
 public class LeaderboardService {
     
+    // The API response has the format: {"status":{"code":"OK","description":"Success"},"data":[...]}
+    private static final TypeReference<ApiResponse<List<LeaderboardEntry>>> LEADERBOARD_TYPE = new TypeReference<>() {};
+    
     private final ApiClient apiClient;
-    private final ObjectMapper objectMapper;
     
     public LeaderboardService() {
-        apiClient = new ApiClient();
-        objectMapper = new ObjectMapper();
+        apiClient = ApiClient.getInstance();
     }
     
     /**
      * Gets the weekly leaderboard.
      * 
+     * @param onCached Callback for a stored copy from an earlier visit, shown while the current one loads
      * @param onSuccess Callback for successful API call
      * @param onError Callback for API error
      */
-    public void getWeeklyLeaderboard(Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
-        apiClient.get("/leaderboard/weekly", 
-            response -> {
-                try {
-                    List<LeaderboardEntry> entries = parseLeaderboardResponse(response);
-                    onSuccess.accept(entries);
-                } catch (Exception e) {
-                    onError.accept("Failed to parse weekly leaderboard data: " + e.getMessage());
-                }
-            },
-            error -> onError.accept("Failed to get weekly leaderboard: " + error)
-        );
+    public void getWeeklyLeaderboard(Consumer<List<LeaderboardEntry>> onCached,
+                                    Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
+        getLeaderboard("/leaderboard/weekly", "weekly", onCached, onSuccess, onError);
     }
     
     /**
      * Gets the monthly leaderboard.
      * 
+     * @param onCached Callback for a stored copy from an earlier visit, shown while the current one loads
      * @param onSuccess Callback for successful API call
      * @param onError Callback for API error
      */
-    public void getMonthlyLeaderboard(Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
-        apiClient.get("/leaderboard/monthly", 
-            response -> {
-                try {
-                    List<LeaderboardEntry> entries = parseLeaderboardResponse(response);
-                    onSuccess.accept(entries);
-                } catch (Exception e) {
-                    onError.accept("Failed to parse monthly leaderboard data: " + e.getMessage());
-                }
-            },
-            error -> onError.accept("Failed to get monthly leaderboard: " + error)
-        );
+    public void getMonthlyLeaderboard(Consumer<List<LeaderboardEntry>> onCached,
+                                      Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
+        getLeaderboard("/leaderboard/monthly", "monthly", onCached, onSuccess, onError);
     }
     
     /**
      * Gets the all-time leaderboard.
      * 
+     * @param onCached Callback for a stored copy from an earlier visit, shown while the current one loads
      * @param onSuccess Callback for successful API call
      * @param onError Callback for API error
      */
-    public void getAllTimeLeaderboard(Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
-        apiClient.get("/leaderboard/all-time", 
-            response -> {
-                try {
-                    List<LeaderboardEntry> entries = parseLeaderboardResponse(response);
-                    onSuccess.accept(entries);
-                } catch (Exception e) {
-                    onError.accept("Failed to parse all-time leaderboard data: " + e.getMessage());
-                }
-            },
-            error -> onError.accept("Failed to get all-time leaderboard: " + error)
-        );
+    public void getAllTimeLeaderboard(Consumer<List<LeaderboardEntry>> onCached,
+                                      Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
+        getLeaderboard("/leaderboard/all-time", "all-time", onCached, onSuccess, onError);
     }
     
     /**
-     * Parse the JSON response from the leaderboard API and convert to a list of LeaderboardEntry objects.
-     * The API response has the format: {"status":{"code":"OK","description":"Success"},"data":[...]}
+     * Gets a leaderboard and ranks its entries.
+     * If a copy from an earlier visit is stored, it is passed to onCached first so the table
+     * fills at once, unless the current leaderboard has already arrived. Exactly one of onSuccess
+     * and onError is called at the end.
      * 
-     * @param response JSON response from the API
-     * @return List of LeaderboardEntry objects
-     * @throws JsonProcessingException if parsing fails
+     * @param endpoint The leaderboard endpoint
+     * @param name The leaderboard name, for error messages
+     * @param onCached Callback for the stored copy, called at most once and never after the others
+     * @param onSuccess Callback for successful API call
+     * @param onError Callback for API error
      */
-    private List<LeaderboardEntry> parseLeaderboardResponse(String response) throws JsonProcessingException {
-        // Parse the root JSON object
-        JsonNode rootNode = objectMapper.readTree(response);
+    private void getLeaderboard(String endpoint, String name, Consumer<List<LeaderboardEntry>> onCached,
+                                Consumer<List<LeaderboardEntry>> onSuccess, Consumer<String> onError) {
+        // Guards against the stored copy arriving after the current one
+        AtomicBoolean currentDelivered = new AtomicBoolean(false);
         
-        // Extract the data array
-        JsonNode dataNode = rootNode.get("data");
-        if (dataNode == null) {
-            throw new JsonProcessingException("Response does not contain 'data' field") {};
-        }
-        
-        // Convert the data entries to LeaderboardEntry objects
-        List<LeaderboardEntry> entries = new ArrayList<>();
-        for (JsonNode entryNode : dataNode) {
-            String username = entryNode.get("username").asText();
-            int score = entryNode.get("score").asInt();
-            
-            // Create LeaderboardEntry with placeholder rank (will be updated after sorting)
-            entries.add(new LeaderboardEntry(0, username, score));
-        }
+        apiClient.getCached(endpoint, LEADERBOARD_TYPE)
+                .thenAccept(cached -> {
+                    if (cached == null || cached.getData() == null) {
+                        return;
+                    }
+                    List<LeaderboardEntry> entries = rankEntries(cached.getData());
+                    synchronized (currentDelivered) {
+                        if (!currentDelivered.get()) {
+                            onCached.accept(entries);
+                        }
+                    }
+                });
         
+        apiClient.get(endpoint, LEADERBOARD_TYPE)
+                .thenApply(response -> rankEntries(response.requireData()))
+                .whenComplete((entries, error) -> {
+                    synchronized (currentDelivered) {
+                        currentDelivered.set(true);
+                        if (error != null) {
+                            onError.accept("Failed to get " + name + " leaderboard: " + HttpClientManager.describe(error));
+                        } else {
+                            onSuccess.accept(entries);
+                        }
+                    }
+                });
+    }
+    
+    /**
+     * Sorts the entries by score and assigns their ranks.
+     * The decoded entries may be shared with other callers of the same request, so they are
+     * copied rather than changed.
+     * 
+     * @param entries The entries decoded from the API, without ranks
+     * @return A new list of ranked entries
+     */
+    private List<LeaderboardEntry> rankEntries(List<LeaderboardEntry> entries) {
         // Sort entries by score in descending order
-        entries.sort((e1, e2) -> Integer.compare(e2.getScore(), e1.getScore()));
+        List<LeaderboardEntry> sorted = new ArrayList<>(entries);
+        sorted.sort((e1, e2) -> Integer.compare(e2.getScore(), e1.getScore()));
         
         // Assign ranks based on position in the sorted list
-        for (int i = 0; i < entries.size(); i++) {
-            entries.get(i).setRank(i + 1); // Ranks are 1-based
+        List<LeaderboardEntry> ranked = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            LeaderboardEntry entry = sorted.get(i);
+            ranked.add(new LeaderboardEntry(i + 1, entry.getUsername(), entry.getScore())); // Ranks are 1-based
         }
         
-        return entries;
+        return ranked;
     }
-} 
\ No newline at end of file
+}
@@ -13,6 +13,9 @@ module metu.ceng.ceng453_20242_group3_frontend {
     requires eu.hansolo.tilesfx;
     requires com.almasb.fxgl.all;
     requires java.net.http;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.jfr;
     requires com.google.gson;
     requires com.fasterxml.jackson.databind;
 
@@ -41,5 +44,6 @@ module metu.ceng.ceng453_20242_group3_frontend {
     exports metu.ceng.ceng453_20242_group3_frontend.features.leaderboard.service;
     
     // Common utilities
+    exports metu.ceng.ceng453_20242_group3_frontend.features.common.model;
     exports metu.ceng.ceng453_20242_group3_frontend.features.common.util;
 }
\ No newline at end of file
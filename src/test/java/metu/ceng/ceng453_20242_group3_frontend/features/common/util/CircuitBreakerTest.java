@@ -0,0 +1,101 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CircuitBreaker}.
+ */
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 50;
+
+    // Time seen by the breakers, moved forward by the tests
+    private long nowNanos = 0;
+
+    @Test
+    public void staysClosedBelowThreshold() {
+        CircuitBreaker breaker = newBreaker();
+        for (int i = 0; i < 2; i++) {
+            breaker.acquire();
+            breaker.recordFailure();
+        }
+        assertDoesNotThrow(breaker::acquire);
+    }
+
+    @Test
+    public void successResetsFailureCount() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 2);
+        breaker.acquire();
+        breaker.recordSuccess();
+        fail(breaker, 2);
+        assertDoesNotThrow(breaker::acquire);
+    }
+
+    @Test
+    public void opensAtThreshold() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 3);
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    @Test
+    public void letsOneProbeThroughWhenHalfOpen() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 3);
+        advanceMillis(OPEN_MILLIS);
+
+        // The first request after the open period is the probe, the others wait for its result
+        assertDoesNotThrow(breaker::acquire);
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    @Test
+    public void closesWhenProbeSucceeds() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 3);
+        advanceMillis(OPEN_MILLIS);
+
+        breaker.acquire();
+        breaker.recordSuccess();
+        assertDoesNotThrow(breaker::acquire);
+        assertDoesNotThrow(breaker::acquire);
+    }
+
+    @Test
+    public void reopensWhenProbeFails() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 3);
+        advanceMillis(OPEN_MILLIS);
+
+        breaker.acquire();
+        breaker.recordFailure();
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    @Test
+    public void staysOpenUntilOpenPeriodEnds() {
+        CircuitBreaker breaker = newBreaker();
+        fail(breaker, 3);
+        advanceMillis(OPEN_MILLIS - 1);
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    private CircuitBreaker newBreaker() {
+        return new CircuitBreaker("test", 3, OPEN_MILLIS, () -> nowNanos);
+    }
+
+    private void advanceMillis(long millis) {
+        nowNanos += millis * 1_000_000L;
+    }
+
+    private static void fail(CircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            breaker.acquire();
+            breaker.recordFailure();
+        }
+    }
+}
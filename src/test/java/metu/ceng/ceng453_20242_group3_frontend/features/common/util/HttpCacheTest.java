@@ -0,0 +1,128 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link HttpCache}.
+ */
+public class HttpCacheTest {
+
+    @Test
+    public void storesResponseWithMaxAgeAsFresh(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("a", headers("Cache-Control", "max-age=60"), bytes("body"));
+
+        HttpCache.Entry entry = cache.get("a");
+        assertNotNull(entry);
+        assertTrue(entry.isFresh());
+        assertArrayEquals(bytes("body"), cache.readBody(entry));
+    }
+
+    @Test
+    public void storesResponseWithValidatorAsStale(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("a", headers("ETag", "\"v1\"", "Last-Modified", "Mon, 19 Oct 2026 10:00:00 GMT"), bytes("body"));
+
+        HttpCache.Entry entry = cache.get("a");
+        assertNotNull(entry);
+        assertFalse(entry.isFresh());
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals("Mon, 19 Oct 2026 10:00:00 GMT", entry.getLastModified());
+    }
+
+    @Test
+    public void noCacheIsNeverFresh(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("a", headers("Cache-Control", "no-cache, max-age=60", "ETag", "\"v1\""), bytes("body"));
+
+        assertFalse(cache.get("a").isFresh());
+    }
+
+    @Test
+    public void skipsResponsesThatCannotBeReused(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("no-store", headers("Cache-Control", "no-store, max-age=60"), bytes("body"));
+        cache.put("no-validator", headers(), bytes("body"));
+        cache.put("too-large", headers("Cache-Control", "max-age=60"), new byte[2048]);
+
+        assertNull(cache.get("no-store"));
+        assertNull(cache.get("no-validator"));
+        assertNull(cache.get("too-large"));
+    }
+
+    @Test
+    public void uncacheableResponseRemovesOlderCopy(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("a", headers("Cache-Control", "max-age=60"), bytes("old"));
+        cache.put("a", headers("Cache-Control", "no-store"), bytes("new"));
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void revalidationRefreshesEntry(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 1024);
+        cache.put("a", headers("ETag", "\"v1\""), bytes("body"));
+
+        HttpCache.Entry entry = cache.get("a");
+        cache.revalidated(entry, headers("Cache-Control", "max-age=60", "ETag", "\"v2\""));
+
+        HttpCache.Entry updated = cache.get("a");
+        assertTrue(updated.isFresh());
+        assertEquals("\"v2\"", updated.getEtag());
+        assertArrayEquals(bytes("body"), cache.readBody(updated));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntry(@TempDir Path directory) {
+        HttpCache cache = new HttpCache(directory, 10);
+        cache.put("a", headers("Cache-Control", "max-age=60"), bytes("aaaa"));
+        cache.put("b", headers("Cache-Control", "max-age=60"), bytes("bbbb"));
+
+        // Using "a" makes "b" the least recently used entry
+        assertNotNull(cache.get("a"));
+        cache.put("c", headers("Cache-Control", "max-age=60"), bytes("cccc"));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void entriesSurviveRestart(@TempDir Path directory) {
+        new HttpCache(directory, 1024).put("a", headers("Cache-Control", "max-age=60"), bytes("body"));
+
+        HttpCache reopened = new HttpCache(directory, 1024);
+        HttpCache.Entry entry = reopened.get("a");
+        assertNotNull(entry);
+        assertTrue(entry.isFresh());
+        assertArrayEquals(bytes("body"), reopened.readBody(entry));
+    }
+
+    private static HttpHeaders headers(String... namesAndValues) {
+        Map<String, List<String>> map = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            map.put(namesAndValues[i], List.of(namesAndValues[i + 1]));
+        }
+        return HttpHeaders.of(map, (name, value) -> true);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
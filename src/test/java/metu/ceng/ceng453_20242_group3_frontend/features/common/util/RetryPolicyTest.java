@@ -0,0 +1,143 @@
+package metu.ceng.ceng453_20242_group3_frontend.features.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RetryPolicy}.
+ */
+public class RetryPolicyTest {
+
+    private static final RetryPolicy IDEMPOTENT = new RetryPolicy(3, 1000, 15000, true);
+    private static final RetryPolicy UNSENT_ONLY = new RetryPolicy(3, 1000, 15000, false);
+
+    @Test
+    public void stopsAtMaxAttempts() {
+        assertTrue(IDEMPOTENT.shouldRetry(2, new ConnectException("refused"), null));
+        assertFalse(IDEMPOTENT.shouldRetry(3, new ConnectException("refused"), null));
+    }
+
+    @Test
+    public void retriesUnsentRequestsForEveryPolicy() {
+        assertTrue(UNSENT_ONLY.shouldRetry(1, new ConnectException("refused"), null));
+        assertTrue(UNSENT_ONLY.shouldRetry(1, new CompletionException(new ConnectException("refused")), null));
+    }
+
+    @Test
+    public void retriesSentRequestsOnlyWhenIdempotent() {
+        HttpTimeoutException timeout = new HttpTimeoutException("request timed out");
+        assertTrue(IDEMPOTENT.shouldRetry(1, timeout, null));
+        assertFalse(UNSENT_ONLY.shouldRetry(1, timeout, null));
+
+        assertTrue(IDEMPOTENT.shouldRetry(1, null, response(502, Map.of())));
+        assertFalse(UNSENT_ONLY.shouldRetry(1, null, response(502, Map.of())));
+    }
+
+    @Test
+    public void retriesServiceUnavailableWithRetryAfter() {
+        assertTrue(UNSENT_ONLY.shouldRetry(1, null, response(503, Map.of("Retry-After", List.of("2")))));
+        assertFalse(UNSENT_ONLY.shouldRetry(1, null, response(503, Map.of())));
+    }
+
+    @Test
+    public void doesNotRetryOtherStatusCodes() {
+        assertFalse(IDEMPOTENT.shouldRetry(1, null, response(500, Map.of())));
+        assertFalse(IDEMPOTENT.shouldRetry(1, null, response(404, Map.of())));
+        assertFalse(IDEMPOTENT.shouldRetry(1, new IllegalStateException("bug"), null));
+    }
+
+    @Test
+    public void delayDoublesWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertBetween(500, 1000, IDEMPOTENT.getDelayMillis(1, null));
+            assertBetween(1000, 2000, IDEMPOTENT.getDelayMillis(2, null));
+            assertBetween(2000, 4000, IDEMPOTENT.getDelayMillis(3, null));
+        }
+    }
+
+    @Test
+    public void delayIsCappedAtMaximum() {
+        for (int i = 0; i < 100; i++) {
+            assertBetween(7500, 15000, IDEMPOTENT.getDelayMillis(10, null));
+            assertBetween(7500, 15000, IDEMPOTENT.getDelayMillis(100, null));
+        }
+    }
+
+    @Test
+    public void honoursRetryAfterUpToMaximum() {
+        assertEquals(5000, IDEMPOTENT.getDelayMillis(1, response(503, Map.of("Retry-After", List.of("5")))));
+        assertEquals(15000, IDEMPOTENT.getDelayMillis(1, response(503, Map.of("Retry-After", List.of("120")))));
+    }
+
+    @Test
+    public void ignoresRetryAfterDate() {
+        HttpResponse<Void> response = response(503, Map.of("Retry-After", List.of("Wed, 21 Oct 2026 07:28:00 GMT")));
+        assertBetween(500, 1000, IDEMPOTENT.getDelayMillis(1, response));
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, "Expected " + actual + " to be in [" + min + ", " + max + "]");
+    }
+
+    private static HttpResponse<Void> response(int statusCode, Map<String, List<String>> headers) {
+        HttpHeaders httpHeaders = HttpHeaders.of(headers, (name, value) -> true);
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return HttpRequest.newBuilder(uri()).build();
+            }
+
+            @Override
+            public Optional<HttpResponse<Void>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return httpHeaders;
+            }
+
+            @Override
+            public Void body() {
+                return null;
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return URI.create("http://localhost/api/test");
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+}